@@ -0,0 +1,115 @@
+#!/usr/bin/env bash
+#
+# 기동 시간 측정 - 프로세스 시작부터 첫 /login 성공(200)까지 시간과 그 시점의 RSS
+#
+#  - jar     : 기존 방식(java -jar 실행 가능 jar)
+#  - cds     : 추출한 jar + CDS archive(학습 실행으로 생성)
+#  - aot-cds : ./gradlew bootJar -Paot 로 만든 jar 추출 + CDS archive + -Dspring.aot.enabled=true
+#
+# 필요한 환경 변수 : CONFIG_SERVER, DB_HOST, DB_USERNAME, DB_PASSWORD, JWT_SECRET, LOGIN_EMAIL, LOGIN_PASSWORD(가입된 회원)
+# 선택 : RUNS(모드별 실행 횟수, 기본 5), PORT(기본 3332), MODES(기본 "jar cds aot-cds"), JAVA_OPTS
+#
+# 실행 : ./scripts/startup-benchmark.sh
+# 결과 : 1실행 1행 JSON, 모드별 중앙값 - {"mode":"cds","run":1,"firstLoginMs":5210,"rssKb":412345}
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+: "${CONFIG_SERVER:?}" "${DB_HOST:?}" "${DB_USERNAME:?}" "${DB_PASSWORD:?}" "${JWT_SECRET:?}" "${LOGIN_EMAIL:?}" "${LOGIN_PASSWORD:?}"
+RUNS=${RUNS:-5}
+PORT=${PORT:-3332}
+MODES=${MODES:-"jar cds aot-cds"}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-180}
+WORK_DIR=build/startup
+
+JVM_ARGS=(-Dconfig.server="$CONFIG_SERVER" -Ddb.host="$DB_HOST" -Ddb.username="$DB_USERNAME" -Ddb.password="$DB_PASSWORD"
+  -DjwtSecret="$JWT_SECRET" -DjwtValidTime=900 -Dddl.auto=none -Dserver.port="$PORT"
+  -Dspring.profiles.active=default,jwt -Dspring.cloud.refresh.enabled=false)
+
+LOGIN_BODY=$(printf '{"email":"%s","password":"%s"}' "$LOGIN_EMAIL" "$LOGIN_PASSWORD")
+
+# 같은 소스로 일반 jar, AOT jar 빌드 - AOT 생성 클래스가 섞이지 않도록 일반 jar 먼저
+build() {
+  rm -rf "$WORK_DIR"
+  mkdir -p "$WORK_DIR/jar" "$WORK_DIR/aot"
+
+  sh ./gradlew -q clean bootJar
+  cp build/libs/member-service-*-SNAPSHOT.jar "$WORK_DIR/jar/app.jar"
+  sh ./gradlew -q bootJar -Paot
+  cp build/libs/member-service-*-SNAPSHOT.jar "$WORK_DIR/aot/app.jar"
+
+  extract "$WORK_DIR/jar/app.jar" "$WORK_DIR/cds" false
+  extract "$WORK_DIR/aot/app.jar" "$WORK_DIR/aot-cds" true
+}
+
+# jar 추출 후 CDS 학습 실행 - 컨텍스트 생성 직후 종료하며 로딩된 클래스 저장
+extract() {
+  local jar=$1 dir=$2 aot=$3
+  java -Djarmode=tools -jar "$jar" extract --destination "$dir"
+  (cd "$dir" && java ${JAVA_OPTS:-} -XX:ArchiveClassesAtExit=application.jsa -Dspring.context.exit=onRefresh \
+    -Dspring.aot.enabled="$aot" "${JVM_ARGS[@]}" -jar app.jar > training.log 2>&1)
+}
+
+# 모드별 실행 - 백그라운드(서브셸)로 호출, exec로 서브셸을 java로 교체하므로 $!가 java 프로세스
+start() {
+  case $1 in
+    jar) cd "$WORK_DIR/jar" && exec java ${JAVA_OPTS:-} "${JVM_ARGS[@]}" -jar app.jar ;;
+    cds) cd "$WORK_DIR/cds" && exec java ${JAVA_OPTS:-} -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=false "${JVM_ARGS[@]}" -jar app.jar ;;
+    aot-cds) cd "$WORK_DIR/aot-cds" && exec java ${JAVA_OPTS:-} -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true "${JVM_ARGS[@]}" -jar app.jar ;;
+    *) echo "unknown mode: $1" >&2; exit 1 ;;
+  esac
+}
+
+now_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# 1회 실행 - "firstLoginMs rssKb" 출력
+measure() {
+  local mode=$1 log=$WORK_DIR/$1.log
+  local started pid status elapsed rss
+  started=$(now_ms)
+  start "$mode" > "$log" 2>&1 &
+  pid=$!
+
+  while true; do
+    status=$(curl -s -o /dev/null -w '%{http_code}' -X POST -H 'Content-Type: application/json' -d "$LOGIN_BODY" \
+      "http://localhost:$PORT/login" || true)
+    [ "$status" = "200" ] && break
+
+    if ! kill -0 "$pid" 2> /dev/null || [ $(( $(now_ms) - started )) -gt $(( TIMEOUT_SECONDS * 1000 )) ]; then
+      echo "$mode: no successful login, see $log" >&2
+      kill "$pid" 2> /dev/null || true
+      exit 1
+    fi
+    sleep 0.05
+  done
+
+  elapsed=$(( $(now_ms) - started ))
+  rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+
+  echo "$elapsed $rss"
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+build
+
+for mode in $MODES; do
+  times=()
+  rsses=()
+  for run in $(seq 1 "$RUNS"); do
+    read -r elapsed rss < <(measure "$mode")
+    times+=("$elapsed")
+    rsses+=("$rss")
+    printf '{"mode":"%s","run":%d,"firstLoginMs":%d,"rssKb":%d}\n' "$mode" "$run" "$elapsed" "$rss"
+  done
+
+  printf '{"mode":"%s","runs":%d,"medianFirstLoginMs":%d,"medianRssKb":%d}\n' "$mode" "$RUNS" \
+    "$(printf '%s\n' "${times[@]}" | median)" "$(printf '%s\n' "${rsses[@]}" | median)"
+done
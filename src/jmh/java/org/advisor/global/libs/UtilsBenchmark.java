@@ -0,0 +1,48 @@
+package org.advisor.global.libs;
+
+import org.advisor.global.configs.MessageSourceConfig;
+import org.advisor.member.controllers.RequestJoin;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증 실패 메세지 추출(Utils.getErrorMessages) 처리량(ops/s)
+ *  - 회원 가입 검증 실패시와 비슷하게 필드 에러 3개, 글로벌 에러 1개
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UtilsBenchmark {
+
+    private Utils utils;
+    private Errors errors;
+
+    @Setup
+    public void setup() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addPreferredLocale(Locale.KOREAN);
+
+        utils = new Utils(request, new MessageSourceConfig().messageSource());
+
+        errors = new BeanPropertyBindingResult(new RequestJoin(), "requestJoin");
+        errors.rejectValue("email", "Duplicated");
+        errors.rejectValue("password", "Complexity");
+        errors.rejectValue("confirmPassword", "Mismatch");
+        errors.reject("Mismatch.login");
+    }
+
+    @Benchmark
+    public Map<String, List<String>> getErrorMessages() {
+        return utils.getErrorMessages(errors);
+    }
+}
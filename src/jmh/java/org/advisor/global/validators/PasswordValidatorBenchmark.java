@@ -0,0 +1,50 @@
+package org.advisor.global.validators;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 복잡성 체크(PasswordValidator 기본 메서드) 처리량(ops/s)
+ *  - joinCheck : 기존 회원 가입시(JoinValidator)와 같은 조합
+ *  - policyCheck : PasswordPolicy 1회 순회 검사
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordValidatorBenchmark {
+
+    private final PasswordValidator validator = new PasswordValidator() {};
+    private final PasswordPolicy policy = new PasswordPolicy(new PasswordPolicyProperties());
+
+    @Param({"_aA123456", "abcdefghijklmnopqrstuvwxyz0123456789ABCDEFGHIJ!"})
+    private String password;
+
+    @Benchmark
+    public boolean alphaCheck() {
+        return validator.alphaCheck(password, false);
+    }
+
+    @Benchmark
+    public boolean numberCheck() {
+        return validator.numberCheck(password);
+    }
+
+    @Benchmark
+    public boolean specialCharsCheck() {
+        return validator.specialCharsCheck(password);
+    }
+
+    @Benchmark
+    public boolean joinCheck() {
+        return validator.alphaCheck(password, false) && validator.numberCheck(password) && validator.specialCharsCheck(password);
+    }
+
+    @Benchmark
+    public boolean policyCheck() {
+        return policy.isSatisfied(password);
+    }
+}
@@ -0,0 +1,45 @@
+package org.advisor.member;
+
+import org.advisor.global.configs.BeansConfig;
+import org.advisor.member.controllers.RequestJoin;
+import org.advisor.member.entities.Member;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 가입 양식(RequestJoin) -> 회원 엔티티(Member) 변환 처리량(ops/s)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelMapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private RequestJoin form;
+
+    @Setup
+    public void setup() {
+        modelMapper = new BeansConfig().modelMapper();
+
+        form = new RequestJoin();
+        form.setEmail("user01@test.org");
+        form.setName("사용자01");
+        form.setPassword("_aA123456");
+        form.setConfirmPassword(form.getPassword());
+        form.setRequiredTerms1(true);
+        form.setRequiredTerms2(true);
+        form.setRequiredTerms3(true);
+        form.setOptionalTerms(List.of("advertisement"));
+    }
+
+    @Benchmark
+    public Member map() {
+        return modelMapper.map(form, Member.class);
+    }
+}
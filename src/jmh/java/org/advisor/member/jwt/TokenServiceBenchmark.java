@@ -0,0 +1,172 @@
+package org.advisor.member.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.advisor.member.MemberInfo;
+import org.advisor.member.MemberMetrics;
+import org.advisor.member.caches.EmailFilter;
+import org.advisor.member.caches.EmailFilterProperties;
+import org.advisor.member.caches.MemberCache;
+import org.advisor.member.caches.MemberCacheProperties;
+import org.advisor.member.entities.Member;
+import org.advisor.member.repositories.StubRepositories;
+import org.advisor.member.services.MemberInfoService;
+import org.advisor.member.throttle.LoginThrottle;
+import org.advisor.member.throttle.LoginThrottleProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import javax.crypto.SecretKey;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급/검증 처리량(ops/s)
+ *  - create : 조회한 회원 정보로 토큰 발급
+ *  - createByEmail : 회원 조회(캐시 미사용, 저장소는 메모리 대체) 후 토큰 발급
+ *  - validate : 서명 검증
+ *  - authenticate : 토큰으로 인증 처리(검증된 토큰 캐시 적중)
+ *  - authenticateUncached : 토큰으로 인증 처리(검증된 토큰 캐시 미사용)
+ *  - legacyDoubleParse : 기존 방식 - validate()에서 1회, Claims 추출을 위해 1회 더 파서 생성 및 서명 검증
+ *  - singleParse : 미리 생성한 JwtParser로 1회 검증 후 Claims 반환
+ *  - cachedVerify : 검증된 토큰 캐시 적중시
+ *  - es256Create, es256Validate : ES256(비대칭) 서명 발급/검증 - HS512 대비 비용 비교
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    private static final String SECRET = "dGhpcy1pcy1hLWJlbmNobWFyay1vbmx5LXNlY3JldC1rZXktZm9yLWhzNTEyLXNpZ25hdHVyZXMtMDEyMzQ1Njc4OQ==";
+    private static final String EMAIL = "user01@test.org";
+
+    private SecretKey key;
+    private TokenService tokenService;
+    private TokenService uncachedTokenService;
+    private TokenService es256TokenService;
+    private TokenCache tokenCache;
+    private MemberInfo memberInfo;
+    private String token;
+    private String es256Token;
+
+    @Setup
+    public void setup() throws Exception {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setValidTime(3600);
+
+        JwtProperties uncachedProperties = new JwtProperties();
+        uncachedProperties.setSecret(SECRET);
+        uncachedProperties.setValidTime(3600);
+        uncachedProperties.getCache().setEnabled(false);
+
+        Member member = new Member();
+        member.setSeq(1L);
+        member.setEmail(EMAIL);
+        member.setName("사용자01");
+        member.setCredentialChangedAt(LocalDateTime.now());
+
+        MemberMetrics metrics = new MemberMetrics(new SimpleMeterRegistry());
+
+        MemberCacheProperties cacheProperties = new MemberCacheProperties();
+        cacheProperties.setEnabled(false);
+        MemberInfoService infoService = new MemberInfoService(StubRepositories.memberRepository(member), null, null, null,
+                new MemberCache(cacheProperties, new SimpleMeterRegistry()), metrics,
+                new LoginThrottle(new LoginThrottleProperties(), new SimpleMeterRegistry()),
+                new EmailFilter(new EmailFilterProperties(), null, new SimpleMeterRegistry()));
+
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        tokenCache = new TokenCache(properties, new SimpleMeterRegistry());
+        tokenService = new TokenService(properties, infoService, tokenCache, metrics, new JwtKeyRing(properties));
+        uncachedTokenService = new TokenService(uncachedProperties, infoService, new TokenCache(uncachedProperties, new SimpleMeterRegistry()), metrics, new JwtKeyRing(uncachedProperties));
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+
+        JwtProperties.SigningKey signingKey = new JwtProperties.SigningKey();
+        signingKey.setKid("bench");
+        signingKey.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        signingKey.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+
+        JwtProperties es256Properties = new JwtProperties();
+        es256Properties.setValidTime(3600);
+        es256Properties.getCache().setEnabled(false);
+        es256Properties.getSigning().setAlgorithm("ES256");
+        es256Properties.getSigning().setKeys(List.of(signingKey));
+        es256TokenService = new TokenService(es256Properties, infoService, new TokenCache(es256Properties, new SimpleMeterRegistry()), metrics, new JwtKeyRing(es256Properties));
+
+        memberInfo = (MemberInfo) infoService.loadUserByUsername(EMAIL);
+        token = tokenService.create(memberInfo);
+        es256Token = es256TokenService.create(memberInfo);
+    }
+
+    @Benchmark
+    public String create() {
+        return tokenService.create(memberInfo);
+    }
+
+    @Benchmark
+    public String createByEmail() {
+        return tokenService.create(EMAIL);
+    }
+
+    @Benchmark
+    public void validate() {
+        tokenService.validate(token);
+    }
+
+    @Benchmark
+    public Authentication authenticate() {
+        return tokenService.authenticate(token);
+    }
+
+    @Benchmark
+    public Authentication authenticateUncached() {
+        return uncachedTokenService.authenticate(token);
+    }
+
+    @Benchmark
+    public Claims legacyDoubleParse() {
+        Jwts.parser().setSigningKey(key).build().parseClaimsJws(token).getPayload();
+
+        return Jwts.parser()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public Claims singleParse() {
+        return tokenService.parse(token);
+    }
+
+    @Benchmark
+    public VerifiedToken cachedVerify() {
+        return tokenCache.get(token, tokenService::verify);
+    }
+
+    @Benchmark
+    public String es256Create() {
+        return es256TokenService.create(memberInfo);
+    }
+
+    @Benchmark
+    public void es256Validate() {
+        es256TokenService.validate(es256Token);
+    }
+}
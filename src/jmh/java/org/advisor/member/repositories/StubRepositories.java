@@ -0,0 +1,42 @@
+package org.advisor.member.repositories;
+
+import org.advisor.member.entities.Member;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 벤치마크용 저장소 - DB 없이 메모리의 회원 목록으로 응답
+ *
+ * findByEmail, exists(email)만 지원
+ */
+public final class StubRepositories {
+
+    private StubRepositories() {}
+
+    public static MemberRepository memberRepository(Member... members) {
+        Map<String, Member> items = Arrays.stream(members).collect(Collectors.toMap(Member::getEmail, Function.identity()));
+
+        InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+            case "findByEmail" -> Optional.ofNullable(items.get((String) args[0]));
+            case "exists" -> args.length == 1 && args[0] instanceof String email ? items.containsKey(email)
+                    : unsupported(method.getName());
+            case "toString" -> "StubMemberRepository";
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> unsupported(method.getName());
+        };
+
+        return (MemberRepository) Proxy.newProxyInstance(MemberRepository.class.getClassLoader(),
+                new Class<?>[] { MemberRepository.class }, handler);
+    }
+
+    private static Object unsupported(String name) {
+        throw new UnsupportedOperationException(name);
+    }
+}
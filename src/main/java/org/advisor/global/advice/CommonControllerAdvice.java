@@ -3,7 +3,10 @@ package org.advisor.global.advice;
 import org.advisor.global.exceptions.CommonException;
 import org.advisor.global.libs.Utils;
 import org.advisor.global.rests.JSONData;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -11,19 +14,24 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.List;
 import java.util.Map;
+
+@Slf4j
 @RequiredArgsConstructor
 @RestControllerAdvice("org.advisor")
 public class CommonControllerAdvice {
     private final Utils utils;
+    private final MeterRegistry meterRegistry;
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<JSONData> errorHandler(Exception e) {
         HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR; // 기본 에러 코드 500
 
         Object message = e.getMessage();
+        Long retryAfter = null;
 
         if (e instanceof CommonException commonException) {
             status = commonException.getStatus();
+            retryAfter = commonException.getRetryAfter();
 
             Map<String, List<String>> errorMessages = commonException.getErrorMessages();
             if (errorMessages != null) {
@@ -38,8 +46,48 @@ public class CommonControllerAdvice {
         data.setStatus(status);
         data.setMessage(message);
 
-        e.printStackTrace();
+        logError(e, status);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(status);
+        if (retryAfter != null) {
+            builder.header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        }
+
+        return builder.body(data);
+    }
+
+    /**
+     * 에러 기록
+     *  - 4xx : 예상된 클라이언트 에러, 로그 대신 지표(http.client.errors)로 집계
+     *  - 5xx : 에러 코드를 구조화 필드로 포함하여 로그, 예상하지 못한 예외만 스택 트레이스 포함
+     *
+     * @param e
+     * @param status
+     */
+    private void logError(Exception e, HttpStatus status) {
+        String errorCode = getErrorCode(e);
+        if (status.is4xxClientError()) {
+            meterRegistry.counter("http.client.errors", "status", String.valueOf(status.value()), "errorCode", errorCode).increment();
+            log.atDebug().addKeyValue("errorCode", errorCode).log("Client error {}", status.value());
+            return;
+        }
+
+        if (e instanceof CommonException) { // 예) 처리 지연(503) - 원인이 명확하므로 스택 트레이스 생략
+            log.atWarn().addKeyValue("errorCode", errorCode).log("Request failed {}", status.value());
+            return;
+        }
+
+        log.atError().addKeyValue("errorCode", errorCode).setCause(e).log("Request failed {}", status.value());
+    }
+
+    /**
+     * 에러 코드 - 메세지 코드로 생성한 예외는 메세지 코드, 그외는 예외 클래스명
+     */
+    public static String getErrorCode(Exception e) {
+        if (e instanceof CommonException commonException && commonException.isErrorCode() && e.getMessage() != null) {
+            return e.getMessage();
+        }
 
-        return ResponseEntity.status(status).body(data);
+        return e.getClass().getSimpleName();
     }
 }
@@ -0,0 +1,12 @@
+package org.advisor.global.configs;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * @Async 처리 - spring.threads.virtual.enabled=true 인 경우 가상 스레드에서 실행
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
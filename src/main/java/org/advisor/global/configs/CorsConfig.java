@@ -2,6 +2,7 @@
 package org.advisor.global.configs;
 
 
+import org.advisor.member.controllers.MemberController;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,6 +28,7 @@ public class CorsConfig {
 
         config.addAllowedMethod("*");
         config.addAllowedHeader("*");
+        config.addExposedHeader(MemberController.REFRESH_TOKEN_HEADER); // 로그인, 토큰 재발급 응답의 재발급 토큰
 
         if (StringUtils.hasText(allowedOrigin)) {
             List<String> origins = Arrays.stream(allowedOrigin.split(",")).toList();
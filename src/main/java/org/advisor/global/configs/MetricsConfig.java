@@ -0,0 +1,60 @@
+package org.advisor.global.configs;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.advisor.member.MemberMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 지표 SLO 구간 설정 - /actuator/prometheus 에서 _bucket 으로 노출
+ *
+ * 지연 원인(해시, DB, JWT 파싱)을 구분할 수 있도록 작업별로 구간을 다르게 설정
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final Map<String, double[]> SLOS = Map.of(
+            MemberMetrics.TOKEN, slo(1, 5, 10, 50),
+            MemberMetrics.LOOKUP, slo(1, 5, 10, 25, 50, 100),
+            MemberMetrics.LOGIN, slo(50, 100, 250, 500, 1000),
+            MemberMetrics.JOIN, slo(100, 250, 500, 1000, 2500),
+            "password.hash", slo(25, 50, 100, 250, 500, 1000),
+            "http.server.requests", slo(10, 25, 50, 100, 250, 500, 1000)
+    );
+
+    @Bean
+    public MeterFilter sloMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                double[] slo = SLOS.get(id.getName());
+                if (slo == null) {
+                    return config;
+                }
+
+                return DistributionStatisticConfig.builder()
+                        .serviceLevelObjectives(slo)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    /**
+     * @param millis : 구간 상한(ms)
+     * @return 구간 상한(ns) - Timer의 기본 단위
+     */
+    private static double[] slo(long... millis) {
+        double[] items = new double[millis.length];
+        for (int i = 0; i < millis.length; i++) {
+            items[i] = Duration.ofMillis(millis[i]).toNanos();
+        }
+
+        return items;
+    }
+}
@@ -1,9 +1,12 @@
 package org.advisor.global.configs;
 
 
+import org.advisor.global.security.PasswordHashingProperties;
 import org.advisor.member.jwt.filters.LoginFilter;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -11,17 +14,39 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.filter.CorsFilter;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity // 기본 보안 정책 활성화
 @EnableMethodSecurity // @PreAuthorize, @PostAuthorize
 @RequiredArgsConstructor
+@EnableConfigurationProperties(PasswordHashingProperties.class)
 public class SecurityConfig {
 
+    /**
+     * 로그인 없이 접근 가능한 주소 - LoginFilter는 이 주소에서 토큰 처리를 하지 않음
+     */
+    public static final String[] PUBLIC_URLS = {
+            "/join", // /api/v1/member/join
+            "/login",
+            "/token/refresh",
+            "/.well-known/jwks.json",
+            "/apidocs.html",
+            "/swagger-ui*/**",
+            "/api-docs/**",
+            "/actuator/health",
+            "/actuator/prometheus", // 지표 수집 - 관리 포트(management.server.port)로만 응답, 서비스 포트로는 노출 X
+            "/internal/**" // 인스턴스간 내부 요청 - X-Internal-Token으로 확인, member.cluster.secret 미설정시 모두 거부
+    };
+
     private final CorsFilter corsFilter;
     private final LoginFilter loginFilter;
 
@@ -49,12 +74,7 @@ public class SecurityConfig {
                     }); // 로그인 후 권한이 없는 경우
                 })
                 .authorizeHttpRequests(c -> {
-                    c.requestMatchers(
-                                    "/join", // /api/v1/member/join
-                                    "/login",
-                                    "/apidocs.html",
-                                    "/swagger-ui*/**",
-                                    "/api-docs/**").permitAll()
+                    c.requestMatchers(PUBLIC_URLS).permitAll()
                             .requestMatchers("/admin/**").hasAnyAuthority("ADMIN")
                             .anyRequest().authenticated();
                 });
@@ -63,8 +83,37 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * LoginFilter는 보안 필터 체인에서만 실행 - 서블릿 필터로 중복 등록 방지
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public FilterRegistrationBean<LoginFilter> loginFilterRegistration() {
+        FilterRegistrationBean<LoginFilter> registration = new FilterRegistrationBean<>(loginFilter);
+        registration.setEnabled(false);
+
+        return registration;
+    }
+
+    /**
+     * 해시 형식 접두어({bcrypt}, {pbkdf2})로 구분하는 비밀번호 인코더
+     *  - 신규 해시는 password.hashing.algorithm 방식, 강도 등은 설정값으로 조정
+     *  - 접두어가 없는 기존 해시는 BCrypt로 검증
+     *
+     * @param properties
+     * @return
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(properties.getBcryptStrength());
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("pbkdf2", new Pbkdf2PasswordEncoder("", properties.getPbkdf2SaltLength(), properties.getPbkdf2Iterations(),
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(properties.getAlgorithm(), encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return encoder;
     }
 }
@@ -17,6 +17,7 @@ public class CommonException extends RuntimeException {
     private HttpStatus status;
     private boolean errorCode;
     private Map<String, List<String>> errorMessages;
+    private Long retryAfter; // 재시도 가능 시간(초) - 응답 헤더 Retry-After
 
     public CommonException(String message, HttpStatus status) {
         super(message);
@@ -0,0 +1,23 @@
+package org.advisor.global.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 처리 가능한 용량을 넘어선 경우
+ * 응답 코드 503으로 고정(Service Unavailable), Retry-After 헤더 포함
+ */
+public class ServiceUnavailableException extends CommonException {
+    public ServiceUnavailableException() {
+        this("ServiceUnavailable");
+        setErrorCode(true);
+    }
+
+    public ServiceUnavailableException(long retryAfter) {
+        this();
+        setRetryAfter(retryAfter);
+    }
+
+    public ServiceUnavailableException(String message) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
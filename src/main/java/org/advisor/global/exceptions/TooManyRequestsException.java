@@ -0,0 +1,23 @@
+package org.advisor.global.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 짧은 시간에 요청이 너무 많은 경우
+ * 응답 코드 429로 고정(Too Many Requests), Retry-After 헤더 포함
+ */
+public class TooManyRequestsException extends CommonException {
+    public TooManyRequestsException() {
+        this("TooManyRequests");
+        setErrorCode(true);
+    }
+
+    public TooManyRequestsException(long retryAfter) {
+        this();
+        setRetryAfter(retryAfter);
+    }
+
+    public TooManyRequestsException(String message) {
+        super(message, HttpStatus.TOO_MANY_REQUESTS);
+    }
+}
@@ -1,27 +1,36 @@
 package org.advisor.global.libs;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
+import org.springframework.context.NoSuchMessageException;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.Errors;
 import org.springframework.validation.FieldError;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Locale;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Lazy
 @Component
 @RequiredArgsConstructor
 public class Utils {
+    private static final long MAX_CACHED_MESSAGES = 10_000L;
+
     private final HttpServletRequest request;
     private final MessageSource messageSource;
 
+    /**
+     * 언어, 메세지 코드별 조회 결과 - 없는 코드는 Optional.empty()로 보관
+     * 검증 실패시 코드마다 NoSuchMessageException이 발생하지 않도록 한 번 조회한 결과를 재사용
+     */
+    private final Cache<MessageKey, Optional<String>> messageCache = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_MESSAGES)
+            .build();
+
     /**
      * 메서지 코드로 조회된 문구
      *
@@ -31,19 +40,37 @@ public class Utils {
     public String getMessage(String code) {
         Locale lo = request.getLocale(); // 사용자 요청 헤더(Accept-Language)
 
-        return messageSource.getMessage(code, null, lo);
+        String message = findMessage(code, lo);
+        if (message == null) {
+            throw new NoSuchMessageException(code, lo);
+        }
+
+        return message;
     }
 
     public List<String> getMessages(String[] codes) {
+        Locale lo = request.getLocale();
 
-        return Arrays.stream(codes).map(c -> {
-            try {
-                return getMessage(c);
-            } catch (Exception e) {
-                return "";
+        List<String> items = new ArrayList<>(codes.length);
+        for (String code : codes) {
+            String message = findMessage(code, lo);
+            if (message != null && !message.isBlank()) {
+                items.add(message);
             }
-        }).filter(s -> !s.isBlank()).toList();
+        }
 
+        return items;
+    }
+
+    /**
+     * 메세지 조회 - 없으면 예외 대신 null
+     *
+     * @param code
+     * @param lo
+     * @return
+     */
+    private String findMessage(String code, Locale lo) {
+        return messageCache.get(new MessageKey(lo, code), k -> Optional.ofNullable(messageSource.getMessage(code, null, null, lo))).orElse(null);
     }
 
     /**
@@ -53,9 +80,6 @@ public class Utils {
      * @return
      */
     public Map<String, List<String>> getErrorMessages(Errors errors) {
-        ResourceBundleMessageSource ms = (ResourceBundleMessageSource) messageSource;
-
-
         // 필드별 에러코드 - getFieldErrors()
         // Collectors.toMap
         Map<String, List<String>> messages = errors.getFieldErrors()
@@ -74,4 +98,6 @@ public class Utils {
 
         return messages;
     }
+
+    private record MessageKey(Locale locale, String code) {}
 }
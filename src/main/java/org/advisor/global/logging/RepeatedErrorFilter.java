@@ -0,0 +1,63 @@
+package org.advisor.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 같은 WARN, ERROR 로그의 반복 출력 제한 - logback-spring.xml에서 등록
+ *
+ * - 로거 + 메세지 형식 + 예외 종류가 같으면 같은 로그로 보고 window(ms) 동안 maxRepeats 건까지만 출력
+ * - 다음 구간이 시작되면 이전 구간에서 생략한 건수를 함께 출력
+ * - INFO 이하는 제한하지 않음
+ */
+@Getter @Setter
+public class RepeatedErrorFilter extends TurboFilter {
+
+    private int maxRepeats = 10; // 구간별 최대 출력 건수
+    private long window = 60_000L; // 구간 길이(ms)
+    private int cacheSize = 1_000; // 추적할 로그 종류 최대 개수 - 초과시 초기화
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || format == null || level == null || !level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        if (counters.size() >= cacheSize) {
+            counters.clear();
+        }
+
+        String key = logger.getName() + "|" + format + "|" + (t == null ? "" : t.getClass().getName());
+        Counter counter = counters.computeIfAbsent(key, k -> new Counter());
+
+        long now = System.currentTimeMillis();
+        synchronized (counter) {
+            if (now - counter.start >= window) { // 새 구간
+                int suppressed = counter.count.get() - maxRepeats;
+                counter.start = now;
+                counter.count.set(0);
+                if (suppressed > 0) {
+                    logger.warn("Suppressed {} repeated log events: {}", suppressed, format);
+                }
+            }
+        }
+
+        return counter.count.incrementAndGet() <= maxRepeats ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private static class Counter {
+        private long start = System.currentTimeMillis();
+        private final AtomicInteger count = new AtomicInteger();
+    }
+}
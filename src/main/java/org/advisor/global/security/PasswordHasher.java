@@ -0,0 +1,115 @@
+package org.advisor.global.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.advisor.global.exceptions.ServiceUnavailableException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+
+/**
+ * 비밀번호 해시 전용 스레드 풀
+ *
+ * - BCrypt 연산을 요청 처리 스레드(Tomcat)와 분리하여 CPU 코어 수만큼만 동시 처리
+ * - 대기열(password.hashing.queue-capacity)이 가득 차거나 제한 시간 초과시 바로 503(Retry-After) 응답
+ * - 대기열 크기 : password.hash.queue.size, 해시 시간 : password.hash{operation=encode|matches}
+ */
+@Component
+public class PasswordHasher implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, PasswordHashingProperties properties, MeterRegistry registry) {
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+
+        int threads = Math.max(1, properties.getThreads());
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size())
+                .description("비밀번호 해시 대기 건수")
+                .register(registry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호 해시 처리중 건수")
+                .register(registry);
+
+        this.encodeTimer = Timer.builder("password.hash").tag("operation", "encode").register(registry);
+        this.matchesTimer = Timer.builder("password.hash").tag("operation", "matches").register(registry);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return await(submit(() -> passwordEncoder.encode(rawPassword), encodeTimer));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(submit(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesTimer));
+    }
+
+    /**
+     * 비동기 해시 생성 - 대기열 초과시 실패한 CompletableFuture 반환
+     *
+     * @param rawPassword
+     * @return
+     */
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new ServiceUnavailableException(properties.getRetryAfter()));
+        }
+    }
+
+    /**
+     * 현재 설정(해시 방식, 강도)보다 낮은 설정으로 생성된 해시인지 여부
+     *
+     * @param encodedPassword
+     * @return
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> Future<T> submit(Callable<T> task, Timer timer) {
+        try {
+            return executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) { // 대기열 초과
+            throw new ServiceUnavailableException(properties.getRetryAfter());
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailableException(properties.getRetryAfter());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(properties.getRetryAfter());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
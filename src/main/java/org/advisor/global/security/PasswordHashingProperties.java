@@ -0,0 +1,29 @@
+package org.advisor.global.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "password.hashing")
+public class PasswordHashingProperties {
+    private int threads = Runtime.getRuntime().availableProcessors(); // 해시 처리 스레드 수 - 기본값 CPU 코어 수
+    private int queueCapacity = 100; // 대기열 크기, 초과시 503
+    private Duration timeout = Duration.ofSeconds(5L); // 대기 + 처리 최대 시간
+    private long retryAfter = 1L; // 503 응답시 Retry-After(초)
+
+    /**
+     * 신규 해시 생성 방식 - bcrypt, pbkdf2
+     * 해시값 앞에 {bcrypt}, {pbkdf2} 형식의 접두어가 붙으며, 접두어가 없는 기존 해시는 BCrypt로 검증
+     */
+    private String algorithm = "bcrypt";
+    private int bcryptStrength = 10; // BCrypt 강도(log2 반복 횟수)
+    /**
+     * PBKDF2 반복 횟수
+     * 해시값에 반복 횟수가 저장되지 않아(Pbkdf2PasswordEncoder.upgradeEncoding은 항상 false) 값을 바꿔도 기존 {pbkdf2} 해시는 다시 만들지 않음
+     * 기존 해시 검증에도 이 값을 사용하므로 이미 {pbkdf2} 해시가 저장된 뒤에는 바꾸지 말 것
+     */
+    private int pbkdf2Iterations = 310_000;
+    private int pbkdf2SaltLength = 16;
+}
@@ -0,0 +1,95 @@
+package org.advisor.global.validators;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 정책 검사
+ *
+ * - 문자 종류(대문자, 소문자, 숫자, 특수문자)별 최소 개수, 길이, 같은 문자 연속 개수를 1번의 순회로 검사
+ * - 정규표현식, 객체 생성 없이 처리하며 상태가 없으므로 여러 스레드에서 같이 사용 가능(대량 검증 등)
+ * - 위반시 에러 코드는 Complexity
+ */
+@Component
+@EnableConfigurationProperties(PasswordPolicyProperties.class)
+public class PasswordPolicy {
+
+    private final int minLength;
+    private final int maxLength;
+    private final int minUppercase;
+    private final int minLowercase;
+    private final int minDigits;
+    private final int minSpecials;
+    private final int maxRepeat;
+    private final PasswordPolicyProperties.Hangul hangul;
+
+    public PasswordPolicy(PasswordPolicyProperties properties) {
+        this.minLength = properties.getMinLength();
+        this.maxLength = properties.getMaxLength();
+        this.minUppercase = properties.getMinUppercase();
+        this.minLowercase = properties.getMinLowercase();
+        this.minDigits = properties.getMinDigits();
+        this.minSpecials = properties.getMinSpecials();
+        this.maxRepeat = properties.getMaxRepeat();
+        this.hangul = properties.getHangul();
+    }
+
+    /**
+     * 정책을 모두 만족하는지 여부
+     *
+     * @param password
+     * @return
+     */
+    public boolean isSatisfied(CharSequence password) {
+        if (password == null) {
+            return false;
+        }
+
+        int length = password.length();
+        if (length < minLength || (maxLength > 0 && length > maxLength)) {
+            return false;
+        }
+
+        int uppercase = 0, lowercase = 0, digits = 0, specials = 0;
+        int repeat = 0;
+        char prev = 0;
+        for (int i = 0; i < length; i++) {
+            char c = password.charAt(i);
+
+            if (c >= 'A' && c <= 'Z') {
+                uppercase++;
+            } else if (c >= 'a' && c <= 'z') {
+                lowercase++;
+            } else if (c >= '0' && c <= '9') {
+                digits++;
+            } else if (isHangul(c)) {
+                if (hangul == PasswordPolicyProperties.Hangul.DENY) {
+                    return false;
+                } else if (hangul == PasswordPolicyProperties.Hangul.SPECIAL) {
+                    specials++;
+                }
+            } else {
+                specials++;
+            }
+
+            // 같은 문자 연속 개수
+            repeat = i > 0 && c == prev ? repeat + 1 : 1;
+            if (maxRepeat > 0 && repeat > maxRepeat) {
+                return false;
+            }
+            prev = c;
+        }
+
+        return uppercase >= minUppercase && lowercase >= minLowercase && digits >= minDigits && specials >= minSpecials;
+    }
+
+    /**
+     * 한글 자음(ㄱ-ㅎ), 완성형 한글(가-힣) 여부
+     *
+     * @param c
+     * @return
+     */
+    public static boolean isHangul(char c) {
+        return (c >= 'ㄱ' && c <= 'ㅎ') || (c >= '가' && c <= '힣');
+    }
+}
@@ -0,0 +1,29 @@
+package org.advisor.global.validators;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "password.policy")
+public class PasswordPolicyProperties {
+    private int minLength = 8;
+    private int maxLength = 0; // 0 - 제한 없음
+    private int minUppercase = 1; // 대문자 최소 개수
+    private int minLowercase = 1; // 소문자 최소 개수
+    private int minDigits = 1; // 숫자 최소 개수
+    private int minSpecials = 1; // 특수문자 최소 개수
+    private int maxRepeat = 0; // 같은 문자 연속 최대 개수, 0 - 제한 없음
+    private Hangul hangul = Hangul.ALLOW;
+
+    /**
+     * 한글(ㄱ-ㅎ, 가-힣) 처리
+     *  - ALLOW : 허용, 어느 문자 종류로도 세지 않음
+     *  - SPECIAL : 특수문자로 셈
+     *  - DENY : 포함시 위반
+     */
+    public enum Hangul {
+        ALLOW,
+        SPECIAL,
+        DENY
+    }
+}
@@ -9,38 +9,53 @@ public interface PasswordValidator {
      * @return
      */
     default boolean alphaCheck(String password, boolean caseInsensitive) {
+        boolean lower = false, upper = false;
+        for (int i = 0; i < password.length(); i++) {
+            char c = password.charAt(i);
+            lower |= c >= 'a' && c <= 'z';
+            upper |= c >= 'A' && c <= 'Z';
+        }
+
         if (caseInsensitive) { // 대소문자 구분없이 알파벳 1자 이상
-            // .* : 0이상 아무 문자  [a-zA-Z]+ : 알파벳 대소문자 상관없이 1자 이상
-            return password.matches(".*[a-zA-Z]+.*");
+            return lower || upper;
         }
 
         // 대문자 1개 이상, 소문자 1개 이상
-        return password.matches(".*[a-z]+.*") && password.matches(".*[A-Z]+.*");
+        return lower && upper;
     }
 
     /**
      * 숫자 복잡성 체크
      *
-     * [0-9]  -> \d
-     *
      * @param password
      * @return
      */
     default boolean numberCheck(String password) {
-        return password.matches(".*\\d.*");
+        for (int i = 0; i < password.length(); i++) {
+            char c = password.charAt(i);
+            if (c >= '0' && c <= '9') {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     /**
      * 특수문자 복잡성 체크
-     * [^문자..]   문자는 제외
-     * [^\d] -> 숫자를 제외한 문자
+     * 숫자, 알파벳, 한글(ㄱ-ㅎ, 가-힣)을 제외한 문자가 1자 이상
      *
      * @param password
      * @return
      */
     default boolean specialCharsCheck(String password) {
-        String pattern = ".*[^0-9a-zA-Zㄱ-ㅎ가-힣].*";  // 숫자, 알파벳, 한글을 제외한 모든 문자(특수문자)
+        for (int i = 0; i < password.length(); i++) {
+            char c = password.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'z') && !(c >= 'A' && c <= 'Z') && !PasswordPolicy.isHangul(c)) {
+                return true;
+            }
+        }
 
-        return password.matches(pattern);
+        return false;
     }
-}
\ No newline at end of file
+}
@@ -10,17 +10,41 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.function.Supplier;
 
 @Getter
 @Setter
 @Builder
-@ToString
+@ToString(doNotUseGetters = true)
 public class MemberInfo implements UserDetails {
 
+    private Long seq;
     private String email;
+    private String name;
     private String password;
+    private LocalDateTime credentialChangedAt;
     private Collection<? extends GrantedAuthority> authorities;
     private Member member;
+    private boolean locked; // 로그인 실패 누적으로 일시 잠금(LoginThrottle)
+
+    /**
+     * 토큰 클레임만으로 구성된 경우 회원 엔티티 지연 조회
+     */
+    @ToString.Exclude
+    private Supplier<Member> memberLoader;
+
+    /**
+     * 회원 엔티티 - 토큰으로 구성된 경우 최초 접근시 조회
+     *
+     * @return
+     */
+    public Member getMember() {
+        if (member == null && memberLoader != null) {
+            member = memberLoader.get();
+        }
+
+        return member;
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -44,18 +68,18 @@ public class MemberInfo implements UserDetails {
 
     @Override
     public boolean isAccountNonLocked() {
-        return true;
+        return !locked;
     }
 
     @Override
     public boolean isCredentialsNonExpired() {
-        LocalDateTime credentialChangedAt = member.getCredentialChangedAt();
+        LocalDateTime credentialChangedAt = this.credentialChangedAt == null && member != null ? member.getCredentialChangedAt() : this.credentialChangedAt;
         return credentialChangedAt != null &&
                 credentialChangedAt.isAfter(LocalDateTime.now().minusMonths(1L));
     }
 
     @Override
-    public boolean isEnabled() { // 회원 탈퇴 여부
-        return member.getDeletedAt() == null;
+    public boolean isEnabled() { // 회원 탈퇴 여부 - 토큰으로 구성된 경우 발급 시점에 탈퇴 회원이 아님
+        return member == null || member.getDeletedAt() == null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,87 @@
+package org.advisor.member;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 인증/인가 지표
+ *
+ * - jwt.token{operation=create|verify, outcome=success|JWT.expired|JWT.malformed|...} : 토큰 발급, 서명 검증 시간
+ * - member.login{outcome=success|not_found|mismatch} : 로그인 검증 시간(회원 조회 + 비밀번호 비교)
+ * - member.lookup{source=cache|db} : 회원 조회 시간 - 캐시 적중, DB 조회 구분
+ * - member.join : 회원 가입 처리 시간, 건수(처리량)
+ * - 비밀번호 해시 시간은 password.hash(PasswordHasher)
+ *
+ * 자주 사용하는 Timer는 미리 등록하여 요청마다 조회하지 않음, SLO 구간은 MetricsConfig 참고
+ */
+@Component
+public class MemberMetrics {
+
+    public static final String TOKEN = "jwt.token";
+    public static final String LOGIN = "member.login";
+    public static final String LOOKUP = "member.lookup";
+    public static final String JOIN = "member.join";
+
+    private final MeterRegistry registry;
+
+    private final Timer tokenCreate;
+    private final Timer tokenVerify;
+    private final Timer loginSuccess;
+    private final Timer lookupCache;
+    private final Timer lookupDb;
+    private final Timer join;
+
+    public MemberMetrics(MeterRegistry registry) {
+        this.registry = registry;
+
+        this.tokenCreate = token("create", "success");
+        this.tokenVerify = token("verify", "success");
+        this.loginSuccess = login("success");
+        this.lookupCache = Timer.builder(LOOKUP).tag("source", "cache").register(registry);
+        this.lookupDb = Timer.builder(LOOKUP).tag("source", "db").register(registry);
+        this.join = Timer.builder(JOIN).register(registry);
+    }
+
+    public void tokenCreated(long nanos) {
+        tokenCreate.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param nanos
+     * @param errorCode : 검증 실패시 에러 코드(JWT.*), 성공시 null
+     */
+    public void tokenVerified(long nanos, String errorCode) {
+        (errorCode == null ? tokenVerify : token("verify", errorCode)).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param nanos
+     * @param outcome : success, not_found, mismatch
+     */
+    public void login(long nanos, String outcome) {
+        ("success".equals(outcome) ? loginSuccess : login(outcome)).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param nanos
+     * @param cached : 캐시 적중 여부
+     */
+    public void lookup(long nanos, boolean cached) {
+        (cached ? lookupCache : lookupDb).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void joined(long nanos) {
+        join.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer token(String operation, String outcome) {
+        return Timer.builder(TOKEN).tag("operation", operation).tag("outcome", outcome).register(registry);
+    }
+
+    private Timer login(String outcome) {
+        return Timer.builder(LOGIN).tag("outcome", outcome).register(registry);
+    }
+}
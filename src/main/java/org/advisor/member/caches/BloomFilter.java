@@ -0,0 +1,99 @@
+package org.advisor.member.caches;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom 필터 - 추가만 가능, 여러 스레드에서 동시에 추가, 조회 가능
+ *
+ * - mightContain()이 false이면 추가된 적 없는 값(오탐 없음)
+ * - true이면 추가되었을 수 있는 값 - 추가 건수가 expectedInsertions일 때 약 fpp 비율로 오탐
+ * - 비트 수 m = -n·ln(p) / (ln 2)², 해시 함수 수 k = m/n·ln 2
+ *   예) n=1,000,000, p=1% : m ≈ 9,585,059비트(약 1.14MiB), k=7
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double fpp) {
+        long n = Math.max(1L, expectedInsertions);
+        double p = Math.min(Math.max(fpp, 1e-9), 0.5);
+
+        long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray(Math.toIntExact((m + 63L) >>> 6));
+        this.bitSize = (long) bits.length() << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+
+            long current;
+            while (((current = bits.get(word)) & mask) == 0L && !bits.compareAndSet(word, current, current | mask)) {
+                // 다른 스레드가 같은 word를 변경한 경우 다시 시도
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0L) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * n건 추가되었을 때 예상 오탐률 - (1 - e^(-kn/m))^k
+     *
+     * @param insertions
+     * @return
+     */
+    public double expectedFpp(long insertions) {
+        return Math.pow(1.0 - Math.exp(-(double) hashCount * insertions / bitSize), hashCount);
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 문자열 64비트 해시 - FNV-1a 후 비트 섞기
+     */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+
+        return mix(h);
+    }
+
+    /**
+     * SplitMix64 마무리 단계
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+
+        return z ^ (z >>> 31);
+    }
+}
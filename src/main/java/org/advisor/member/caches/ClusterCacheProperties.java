@@ -0,0 +1,30 @@
+package org.advisor.member.caches;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "member.cluster")
+public class ClusterCacheProperties {
+    private boolean enabled = true; // 다른 인스턴스로 캐시 무효화 전파 여부
+    private int maxBatchSize = 500; // 1회 전송 최대 이메일 수
+    private Duration connectTimeout = Duration.ofMillis(500); // 전송 연결 제한 시간
+    private Duration readTimeout = Duration.ofSeconds(2); // 전송 응답 제한 시간
+    private String secret; // 인스턴스간 요청 확인용 공유 값(X-Internal-Token 헤더), 없으면 내부 요청(/internal/**) 모두 거부
+
+    /**
+     * 내부 요청 확인 - X-Internal-Token 헤더 값과 secret 비교(고정 시간 비교)
+     *
+     * @param token
+     * @return secret이 없으면 항상 false
+     */
+    public boolean isTrusted(String token) {
+        return StringUtils.hasText(secret) && token != null &&
+                MessageDigest.isEqual(secret.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,234 @@
+package org.advisor.member.caches;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.advisor.member.entities.QMember;
+import org.advisor.member.services.MemberUpdatedEvent;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가입된 이메일 Bloom 필터
+ *
+ * - mightContain()이 false이면 가입되지 않은 이메일 - DB 조회 생략
+ * - true이면 가입되었을 수 있는 이메일 - DB로 확인(오탐률 member.email-filter.fpp)
+ * - 기동 후 회원 테이블의 이메일을 keyset 페이징으로 읽어 생성, 생성 전에는 항상 true
+ * - 회원 정보 변경(MemberUpdatedEvent), 다른 인스턴스의 변경 전파시 추가
+ * - 탈퇴 회원 등 지워지지 않는 항목이 쌓이므로 주기적으로(member.email-filter.rebuild-delay, 기본 6시간) 다시 생성
+ * - 메모리 : 회원 100만명, 오탐률 1% 기준 약 1.14MiB
+ *
+ * 다른 인스턴스에서 가입한 회원은 변경 전파가 실패하면 필터에 없을 수 있으므로,
+ * 주기적으로(member.email-filter.refresh-delay, 기본 5초) 최근 가입 회원의 이메일을 추가(refresh)
+ *  - 회원 번호는 인스턴스마다 미리 할당받은 범위(allocationSize)에서 사용하므로 커밋 순서와 다름,
+ *    마지막 번호 이후(seq > lastSeq)만 읽으면 늦게 커밋된 작은 번호를 놓치므로 가입일시 기준으로 읽음
+ *  - 이전 조회 시작 시각 - refresh-overlap(커밋 지연, 인스턴스간 시각 차이)부터 다시 읽음, 중복 추가는 영향 없음
+ *  - 마지막 refresh(또는 생성) 성공 후 max-staleness가 지나면 false 응답을 신뢰하지 않고 항상 true(DB로 확인)
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(EmailFilterProperties.class)
+public class EmailFilter {
+
+    private final EmailFilterProperties properties;
+    private final JPAQueryFactory queryFactory;
+    private final Counter negatives;
+
+    private volatile Holder current; // 사용중인 필터, 생성 전 null
+    private volatile Holder building; // 다시 생성중인 필터
+    private volatile LocalDateTime syncedFrom; // 다음 refresh에서 읽을 가입일시 기준 - 마지막 조회 시작 시각
+    private volatile long syncedAt; // 마지막 조회 시작 시각(System.nanoTime)
+
+    public EmailFilter(EmailFilterProperties properties, JPAQueryFactory queryFactory, MeterRegistry registry) {
+        this.properties = properties;
+        this.queryFactory = queryFactory;
+        this.negatives = Counter.builder("member.email.filter.negative").register(registry);
+
+        Gauge.builder("member.email.filter.fpp", this, f -> f.current == null ? 1.0 : f.current.expectedFpp())
+                .register(registry);
+        Gauge.builder("member.email.filter.bytes", this, f -> f.current == null ? 0.0 : f.current.filter().bitSize() / 8.0)
+                .register(registry);
+        Gauge.builder("member.email.filter.trusted", this, f -> f.isFresh() ? 1.0 : 0.0)
+                .register(registry);
+    }
+
+    /**
+     * 가입되었을 수 있는 이메일인지
+     *
+     * @param email
+     * @return false이면 가입되지 않은 이메일
+     */
+    public boolean mightContain(String email) {
+        Holder holder = current;
+        if (!properties.isEnabled() || holder == null || email == null || !isFresh()) {
+            return true;
+        }
+
+        boolean result = holder.filter().mightContain(email);
+        if (!result) {
+            negatives.increment();
+        }
+
+        return result;
+    }
+
+    /**
+     * 필터의 false 응답을 신뢰할 수 있는지 - 생성 후 max-staleness 안에 refresh 성공
+     *
+     * @return
+     */
+    public boolean isFresh() {
+        return current != null && System.nanoTime() - syncedAt <= properties.getMaxStaleness().toNanos();
+    }
+
+    public void put(String email) {
+        if (email == null) {
+            return;
+        }
+
+        Holder holder = current;
+        if (holder != null) {
+            holder.put(email);
+        }
+
+        holder = building;
+        if (holder != null) {
+            holder.put(email);
+        }
+    }
+
+    /**
+     * 커밋 전 바로 추가 - 롤백된 경우 오탐 1건이 늘어날 뿐 누락은 없음
+     */
+    @EventListener
+    public void onMemberUpdated(MemberUpdatedEvent event) {
+        put(event.email());
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    /**
+     * 회원 테이블 전체 이메일로 다시 생성 후 교체
+     *  - 생성 시작 이후 추가된 이메일은 생성중인 필터에도 추가
+     */
+    @Scheduled(initialDelayString = "${member.email-filter.rebuild-delay:21600000}", fixedDelayString = "${member.email-filter.rebuild-delay:21600000}")
+    public synchronized void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        LocalDateTime startedAt = LocalDateTime.now();
+        QMember member = QMember.member;
+        try {
+            Long total = queryFactory.select(member.count()).from(member).fetchOne();
+            long expected = Math.max(properties.getExpectedInsertions(), total == null ? 0L : total * 2L);
+
+            Holder holder = new Holder(new BloomFilter(expected, properties.getFpp()), new AtomicLong());
+            building = holder;
+
+            Long lastSeq = null;
+            List<Tuple> items;
+            do {
+                items = queryFactory.select(member.seq, member.email)
+                        .from(member)
+                        .where(lastSeq == null ? null : member.seq.gt(lastSeq))
+                        .orderBy(member.seq.asc())
+                        .limit(properties.getFetchSize())
+                        .setHint(HibernateHints.HINT_FETCH_SIZE, properties.getFetchSize())
+                        .fetch();
+
+                for (Tuple item : items) {
+                    holder.put(item.get(member.email));
+                }
+
+                if (!items.isEmpty()) {
+                    lastSeq = items.get(items.size() - 1).get(member.seq);
+                }
+            } while (items.size() == properties.getFetchSize());
+
+            syncedFrom = startedAt; // 생성중 커밋되어 읽지 못한 회원은 다음 refresh에서 추가
+            syncedAt = start;
+            current = holder;
+
+            log.info("Email filter built: {} emails, {} bytes, expected fpp {} in {} ms", holder.count().get(),
+                    holder.filter().bitSize() / 8, String.format("%.4f", holder.expectedFpp()), (System.nanoTime() - start) / 1_000_000L);
+        } catch (Exception e) {
+            // 생성 실패시 기존 필터 유지, 기존 필터도 없으면 모든 이메일을 DB로 확인
+            log.atWarn().addKeyValue("errorCode", e.getClass().getSimpleName()).log("Email filter build failed: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * 최근 가입 회원의 이메일 추가 - 이전 조회 시작 시각 - refresh-overlap 이후 가입일시
+     *  - 실패시 기준 시각을 유지하므로 다음 refresh에서 다시 읽음, max-staleness가 지나면 false 응답 중단
+     */
+    @Scheduled(initialDelayString = "${member.email-filter.refresh-delay:5000}", fixedDelayString = "${member.email-filter.refresh-delay:5000}")
+    public synchronized void refresh() {
+        Holder holder = current;
+        LocalDateTime from = syncedFrom;
+        if (!properties.isEnabled() || holder == null || from == null) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        LocalDateTime startedAt = LocalDateTime.now();
+        QMember member = QMember.member;
+        try {
+            LocalDateTime createdFrom = from.minus(properties.getRefreshOverlap());
+
+            Long lastSeq = null;
+            List<Tuple> items;
+            do {
+                items = queryFactory.select(member.seq, member.email)
+                        .from(member)
+                        .where(member.createdAt.goe(createdFrom), lastSeq == null ? null : member.seq.gt(lastSeq))
+                        .orderBy(member.seq.asc())
+                        .limit(properties.getFetchSize())
+                        .fetch();
+
+                for (Tuple item : items) {
+                    holder.put(item.get(member.email));
+                }
+
+                if (!items.isEmpty()) {
+                    lastSeq = items.get(items.size() - 1).get(member.seq);
+                }
+            } while (items.size() == properties.getFetchSize());
+
+            syncedFrom = startedAt;
+            syncedAt = start;
+        } catch (Exception e) {
+            log.atWarn().addKeyValue("errorCode", e.getClass().getSimpleName()).log("Email filter refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private record Holder(BloomFilter filter, AtomicLong count) {
+        void put(String email) {
+            filter.put(email);
+            count.incrementAndGet();
+        }
+
+        double expectedFpp() {
+            return filter.expectedFpp(count.get());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.advisor.member.caches;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "member.email-filter")
+public class EmailFilterProperties {
+    private boolean enabled = true;
+    private long expectedInsertions = 1_000_000L; // 최소 예상 회원 수 - 실제 회원 수가 더 많으면 회원 수 x 2로 생성
+    private double fpp = 0.01; // 목표 오탐률
+    private int fetchSize = 10_000; // 생성시 1번에 조회할 이메일 수
+    private Duration refreshOverlap = Duration.ofMinutes(1L); // refresh시 이전 조회 시작 시각보다 앞서 다시 읽는 범위 - 커밋 지연, 인스턴스간 시각 차이
+    private Duration maxStaleness = Duration.ofSeconds(30L); // 마지막 refresh 성공 후 이 시간이 지나면 false 응답 중단
+}
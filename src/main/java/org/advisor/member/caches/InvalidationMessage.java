@@ -0,0 +1,11 @@
+package org.advisor.member.caches;
+
+import java.util.List;
+
+/**
+ * 인스턴스간 캐시 무효화 메세지
+ *
+ * @param emails : 변경된 회원 이메일 목록
+ */
+public record InvalidationMessage(List<String> emails) {
+}
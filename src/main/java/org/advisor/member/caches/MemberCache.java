@@ -0,0 +1,86 @@
+package org.advisor.member.caches;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.advisor.member.services.MemberUpdatedEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Function;
+
+/**
+ * 회원 조회 캐시(read-through)
+ *
+ * - 이메일 -> 회원 스냅샷
+ * - 저장 후 member.cache.ttl 경과시 만료, member.cache.maxSize 초과시 제거
+ * - 회원 정보 변경 트랜잭션 커밋 직후 해당 회원 제거
+ * - 적중률, 조회(load) 시간, 제거 수는 member.members 이름으로 Actuator metrics에 노출
+ * - 다른 인스턴스의 변경을 전달받을 수 없는 경우 MemberCacheBroadcaster에서 사용 중지(disable)
+ */
+@Component
+@EnableConfigurationProperties(MemberCacheProperties.class)
+public class MemberCache {
+
+    private volatile boolean enabled;
+    private final Cache<String, MemberSnapshot> cache;
+
+    public MemberCache(MemberCacheProperties properties, MeterRegistry registry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumSize(properties.getMaxSize())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, cache, "member.members");
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 조회 후 보관
+     *  - loader가 null을 반환하면(미가입 회원) 보관하지 않음
+     *
+     * @param email
+     * @param loader
+     * @return
+     */
+    public MemberSnapshot get(String email, Function<String, MemberSnapshot> loader) {
+        if (!enabled) {
+            return loader.apply(email);
+        }
+
+        return cache.get(email, loader);
+    }
+
+    public void evict(String email) {
+        cache.invalidate(email);
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 사용 중지 - 이후 모든 조회는 loader로
+     */
+    public void disable() {
+        enabled = false;
+        cache.invalidateAll();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 회원 정보 변경 커밋 이후 캐시 제거
+     *
+     * @param event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberUpdated(MemberUpdatedEvent event) {
+        evict(event.email());
+    }
+}
@@ -0,0 +1,171 @@
+package org.advisor.member.caches;
+
+import lombok.extern.slf4j.Slf4j;
+import org.advisor.member.services.MemberUpdatedEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.composite.CompositeDiscoveryClient;
+import org.springframework.cloud.client.discovery.simple.SimpleDiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원 캐시 무효화 전파
+ *
+ * - 회원 정보 변경 커밋 이후 이메일을 모아 두었다가 주기적으로(member.cluster.flush-delay, 기본 200ms) 전송
+ * - 같은 주기 안에서 여러번 변경된 회원은 1번만 전송
+ * - 전송 대상은 DiscoveryClient(Eureka)에 등록된 같은 서비스의 다른 인스턴스
+ * - 전송 실패시 해당 인스턴스의 캐시는 TTL(member.cache.ttl) 경과 후 만료
+ * - 응답 없는 인스턴스가 전송 작업(스케줄러 스레드)을 붙잡지 않도록 연결/응답 제한 시간(member.cluster.connect-timeout, read-timeout) 적용
+ * - member.cluster.secret이 없으면 받는 쪽에서 거부하므로 전송 X
+ *   서비스 레지스트리(Eureka)를 사용하는데 secret이 없으면 다른 인스턴스의 변경을 받을 수 없으므로
+ *   TTL 동안 변경 전 정보를 쓰지 않도록 기동시 회원 캐시 사용 중지
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(ClusterCacheProperties.class)
+public class MemberCacheBroadcaster {
+
+    public static final String INVALIDATE_PATH = "/internal/cache/invalidate";
+    public static final String TOKEN_HEADER = "X-Internal-Token";
+
+    private final ClusterCacheProperties properties;
+    private final MemberCache memberCache;
+    private final EmailFilter emailFilter;
+    private final DiscoveryClient discoveryClient;
+    private final RestTemplate restTemplate;
+    private final ObjectProvider<Registration> registration;
+    private final String serviceId;
+
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public MemberCacheBroadcaster(ClusterCacheProperties properties, MemberCache memberCache, EmailFilter emailFilter, DiscoveryClient discoveryClient,
+                                  RestTemplateBuilder restTemplateBuilder, ObjectProvider<Registration> registration,
+                                  @Value("${spring.application.name}") String serviceId) {
+        this.properties = properties;
+        this.memberCache = memberCache;
+        this.emailFilter = emailFilter;
+        this.discoveryClient = discoveryClient;
+        this.restTemplate = restTemplateBuilder
+                .connectTimeout(properties.getConnectTimeout())
+                .readTimeout(properties.getReadTimeout())
+                .build();
+        this.registration = registration;
+        this.serviceId = serviceId;
+
+        if (properties.isEnabled() && !StringUtils.hasText(properties.getSecret()) && hasRegistry(discoveryClient)) {
+            memberCache.disable();
+            log.error("Member cache disabled: member.cluster.secret is not configured, invalidations from other instances cannot be received");
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberUpdated(MemberUpdatedEvent event) {
+        if (properties.isEnabled()) {
+            pending.add(event.email());
+        }
+    }
+
+    /**
+     * 모아 둔 이메일을 다른 인스턴스로 전송
+     */
+    @Scheduled(fixedDelayString = "${member.cluster.flush-delay:200}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<String> emails = new ArrayList<>();
+        Iterator<String> iter = pending.iterator();
+        while (iter.hasNext()) {
+            emails.add(iter.next());
+            iter.remove();
+        }
+
+        List<ServiceInstance> peers = getPeers();
+        if (peers.isEmpty()) {
+            return;
+        }
+
+        if (!StringUtils.hasText(properties.getSecret())) {
+            log.warn("Cache invalidation skipped: member.cluster.secret is not configured");
+            return;
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(TOKEN_HEADER, properties.getSecret());
+
+        int batchSize = Math.max(1, properties.getMaxBatchSize());
+        for (int i = 0; i < emails.size(); i += batchSize) {
+            InvalidationMessage message = new InvalidationMessage(emails.subList(i, Math.min(i + batchSize, emails.size())));
+            HttpEntity<InvalidationMessage> request = new HttpEntity<>(message, headers);
+
+            for (ServiceInstance peer : peers) {
+                String url = peer.getUri() + INVALIDATE_PATH;
+                try {
+                    restTemplate.postForEntity(url, request, Void.class);
+                } catch (Exception e) {
+                    log.warn("Cache invalidation to {} failed: {}", url, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 받은 무효화 처리
+     *
+     * @param message
+     */
+    public void receive(InvalidationMessage message) {
+        if (message == null || message.emails() == null) {
+            return;
+        }
+
+        for (String email : message.emails()) {
+            memberCache.evict(email);
+            emailFilter.put(email); // 다른 인스턴스에서 가입한 회원
+        }
+    }
+
+    /**
+     * 설정 파일(SimpleDiscoveryClient) 외의 서비스 레지스트리 사용 여부
+     */
+    private static boolean hasRegistry(DiscoveryClient discoveryClient) {
+        if (discoveryClient instanceof CompositeDiscoveryClient composite) {
+            return composite.getDiscoveryClients().stream().anyMatch(c -> !(c instanceof SimpleDiscoveryClient));
+        }
+
+        return !(discoveryClient instanceof SimpleDiscoveryClient);
+    }
+
+    /**
+     * 같은 서비스의 다른 인스턴스 목록(자기 자신 제외)
+     *
+     * @return
+     */
+    private List<ServiceInstance> getPeers() {
+        Registration self = registration.getIfAvailable();
+        String selfId = self == null ? null : self.getInstanceId();
+
+        return discoveryClient.getInstances(serviceId).stream()
+                .filter(s -> selfId == null || !Objects.equals(selfId, s.getInstanceId()))
+                .toList();
+    }
+}
@@ -0,0 +1,14 @@
+package org.advisor.member.caches;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "member.cache")
+public class MemberCacheProperties {
+    private boolean enabled = true;
+    private Duration ttl = Duration.ofMinutes(5L); // 저장 후 만료 시간
+    private long maxSize = 10_000L; // 최대 보관 회원 수
+}
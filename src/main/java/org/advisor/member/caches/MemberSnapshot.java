@@ -0,0 +1,74 @@
+package org.advisor.member.caches;
+
+import org.advisor.member.constants.Authority;
+import org.advisor.member.entities.Authorities;
+import org.advisor.member.entities.Member;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 캐시에 보관하는 회원 정보 - 불변
+ *
+ * 엔티티를 그대로 보관하면 조회한 쪽에서 값을 바꿀 수 있으므로 필드 값과 권한 목록만 복사하여 보관
+ */
+public record MemberSnapshot(
+        Long seq,
+        String email,
+        String password,
+        String name,
+        boolean requiredTerms1,
+        boolean requiredTerms2,
+        boolean requiredTerms3,
+        String optionalTerms,
+        LocalDateTime credentialChangedAt,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt,
+        LocalDateTime deletedAt,
+        List<Authority> authorities) {
+
+    public static MemberSnapshot of(Member member) {
+        List<Authorities> items = member.getAuthorities();
+        List<Authority> authorities = items == null ? List.of(Authority.USER) // 권한이 없는 경우 기본 권한 USER
+                : items.stream().map(Authorities::getAuthority).toList();
+
+        return new MemberSnapshot(
+                member.getSeq(),
+                member.getEmail(),
+                member.getPassword(),
+                member.getName(),
+                member.isRequiredTerms1(),
+                member.isRequiredTerms2(),
+                member.isRequiredTerms3(),
+                member.getOptionalTerms(),
+                member.getCredentialChangedAt(),
+                member.getCreatedAt(),
+                member.getModifiedAt(),
+                member.getDeletedAt(),
+                authorities);
+    }
+
+    /**
+     * 조회할 때마다 새로운 회원 엔티티로 복원(비영속 상태)
+     *  - 권한은 MemberInfo로 전달하므로 authorities 컬렉션은 비워 둠
+     *
+     * @return
+     */
+    public Member toMember() {
+        Member member = new Member();
+        member.setSeq(seq);
+        member.setEmail(email);
+        member.setPassword(password);
+        member.setName(name);
+        member.setRequiredTerms1(requiredTerms1);
+        member.setRequiredTerms2(requiredTerms2);
+        member.setRequiredTerms3(requiredTerms3);
+        member.setOptionalTerms(optionalTerms);
+        member.setCredentialChangedAt(credentialChangedAt);
+        member.setCreatedAt(createdAt);
+        member.setModifiedAt(modifiedAt);
+        member.setDeletedAt(deletedAt);
+
+        return member;
+    }
+}
@@ -0,0 +1,9 @@
+package org.advisor.member.constants;
+
+/**
+ * 회원 일괄 등록, 내보내기 형식
+ */
+public enum DataFormat {
+    NDJSON, // 1행 1회원 JSON
+    CSV // 첫 행은 헤더
+}
@@ -0,0 +1,71 @@
+package org.advisor.member.controllers;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.advisor.global.rests.JSONData;
+import org.advisor.member.constants.DataFormat;
+import org.advisor.member.services.MemberExportService;
+import org.advisor.member.services.MemberImportService;
+import org.advisor.member.services.MemberSearchService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@Tag(name = "AdminMember", description = "회원 관리 API(관리자)")
+@RestController
+@RequestMapping("/admin/members")
+@RequiredArgsConstructor
+public class AdminMemberController {
+
+    private final MemberImportService importService;
+    private final MemberExportService exportService;
+    private final MemberSearchService searchService;
+
+    /**
+     * 회원 목록 조회
+     *  - 다음 목록은 응답의 nextSeq를 lastSeq로 전달하여 조회
+     *
+     * @param search
+     * @return
+     */
+    @GetMapping
+    public JSONData list(@ModelAttribute MemberSearch search) {
+        return new JSONData(searchService.getList(search));
+    }
+
+    /**
+     * 회원 일괄 등록
+     *  - 요청 본문을 스트림으로 1행씩 처리
+     *  - application/x-ndjson : 1행 1회원 JSON
+     *  - text/csv : 첫 행은 헤더(email,name,password,requiredTerms1,requiredTerms2,requiredTerms3,optionalTerms)
+     *
+     * @return 처리 건수, 실패 행, 처리 속도(행/초)
+     */
+    @PostMapping(path = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public JSONData importNdjson(HttpServletRequest request) throws IOException {
+        return new JSONData(importService.process(request.getInputStream(), DataFormat.NDJSON));
+    }
+
+    @PostMapping(path = "/import", consumes = "text/csv")
+    public JSONData importCsv(HttpServletRequest request) throws IOException {
+        return new JSONData(importService.process(request.getInputStream(), DataFormat.CSV));
+    }
+
+    /**
+     * 회원 내보내기
+     *  - 전체 회원을 응답으로 바로 스트리밍(NDJSON 또는 CSV)
+     *
+     * @param format : NDJSON(기본값), CSV
+     */
+    @GetMapping("/export")
+    public void export(@RequestParam(name = "format", defaultValue = "NDJSON") DataFormat format, HttpServletResponse response) throws IOException {
+        response.setCharacterEncoding("UTF-8");
+        response.setContentType(format == DataFormat.CSV ? "text/csv" : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader("Content-Disposition", "attachment; filename=members." + format.name().toLowerCase());
+
+        exportService.process(response.getOutputStream(), format);
+    }
+}
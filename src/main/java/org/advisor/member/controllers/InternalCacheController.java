@@ -0,0 +1,33 @@
+package org.advisor.member.controllers;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+import org.advisor.global.exceptions.UnAuthorizedException;
+import org.advisor.member.caches.ClusterCacheProperties;
+import org.advisor.member.caches.InvalidationMessage;
+import org.advisor.member.caches.MemberCacheBroadcaster;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 인스턴스간 회원 캐시 무효화 수신
+ */
+@Hidden
+@RestController
+@RequiredArgsConstructor
+public class InternalCacheController {
+
+    private final MemberCacheBroadcaster broadcaster;
+    private final ClusterCacheProperties properties;
+
+    @PostMapping(MemberCacheBroadcaster.INVALIDATE_PATH)
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void invalidate(@RequestHeader(value = MemberCacheBroadcaster.TOKEN_HEADER, required = false) String token,
+                           @RequestBody InvalidationMessage message) {
+        if (!properties.isTrusted(token)) {
+            throw new UnAuthorizedException();
+        }
+
+        broadcaster.receive(message);
+    }
+}
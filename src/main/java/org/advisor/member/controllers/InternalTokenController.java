@@ -0,0 +1,52 @@
+package org.advisor.member.controllers;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.advisor.global.exceptions.BadRequestException;
+import org.advisor.global.exceptions.UnAuthorizedException;
+import org.advisor.member.caches.ClusterCacheProperties;
+import org.advisor.member.caches.MemberCacheBroadcaster;
+import org.advisor.member.jwt.TokenIntrospectionService;
+import org.springframework.http.MediaType;
+import org.springframework.validation.Errors;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * 게이트웨이, 다른 서비스용 토큰 일괄 확인
+ *  - 요청 : {"tokens":["토큰1","토큰2",...]}
+ *  - 응답 : 토큰별 유효 여부, 회원 이메일(sub), 권한, 만료 시각(exp, 초), 실패시 JWT.* 에러 코드
+ */
+@Hidden
+@RestController
+@RequiredArgsConstructor
+public class InternalTokenController {
+
+    public static final String INTROSPECT_PATH = "/internal/token/introspect";
+
+    private final TokenIntrospectionService introspectionService;
+    private final ClusterCacheProperties properties;
+
+    @PostMapping(INTROSPECT_PATH)
+    public void introspect(@RequestHeader(value = MemberCacheBroadcaster.TOKEN_HEADER, required = false) String token,
+                           @RequestBody @Valid RequestIntrospect form, Errors errors, HttpServletResponse response) throws IOException {
+        if (!properties.isTrusted(token)) {
+            throw new UnAuthorizedException();
+        }
+
+        if (errors.hasErrors()) {
+            throw new BadRequestException();
+        }
+
+        response.setCharacterEncoding("UTF-8");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        introspectionService.process(form.getTokens(), response.getOutputStream());
+    }
+}
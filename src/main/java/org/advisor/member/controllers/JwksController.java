@@ -0,0 +1,45 @@
+package org.advisor.member.controllers;
+
+import lombok.RequiredArgsConstructor;
+import org.advisor.member.jwt.JwtKeyRing;
+import org.advisor.member.jwt.JwtProperties;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 토큰 검증용 공개키(JWKS)
+ *
+ * - 다른 서비스에서 회원 서비스 호출 없이 토큰 서명을 직접 검증할 때 사용
+ * - 키 목록은 기동시 직렬화된 값을 그대로 응답, Cache-Control max-age(jwt.signing.jwks-max-age)와 ETag로 재요청 최소화
+ * - 검증하는 쪽은 모르는 kid를 만나면 캐시 시간과 관계없이 다시 조회해야 함
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    public static final String JWKS_PATH = "/.well-known/jwks.json";
+
+    private final JwtKeyRing keyRing;
+    private final JwtProperties properties;
+
+    @GetMapping(JWKS_PATH)
+    public ResponseEntity<byte[]> jwks(@RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        CacheControl cacheControl = CacheControl.maxAge(properties.getSigning().getJwksMaxAge()).cachePublic();
+        String etag = keyRing.getJwksEtag();
+
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).eTag(etag).build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(etag)
+                .contentType(MediaType.parseMediaType("application/jwk-set+json"))
+                .body(keyRing.getJwks());
+    }
+}
@@ -1,14 +1,20 @@
 package org.advisor.member.controllers;
 
 import org.advisor.global.exceptions.BadRequestException;
+import org.advisor.global.exceptions.UnAuthorizedException;
 import org.advisor.global.libs.Utils;
 import org.advisor.global.rests.JSONData;
 import org.advisor.member.MemberInfo;
+import org.advisor.member.jwt.RefreshTokenService;
+import org.advisor.member.jwt.TokenPair;
 import org.advisor.member.jwt.TokenService;
+import org.advisor.member.services.MemberInfoService;
 import org.advisor.member.services.MemberUpdateService;
+import org.advisor.member.throttle.LoginThrottle;
 import org.advisor.member.validators.JoinValidator;
 import org.advisor.member.validators.LoginValidator;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +30,9 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class MemberController {
 
+    public static final String REFRESH_TOKEN = "refreshToken";
+    public static final String REFRESH_TOKEN_HEADER = "X-Refresh-Token";
+
     @Value("${front.domain}")
     private String frontDomain;
 
@@ -32,6 +41,9 @@ public class MemberController {
     private final JoinValidator joinValidator;
     private final TokenService tokenService;
     private final LoginValidator loginValidator;
+    private final RefreshTokenService refreshTokenService;
+    private final MemberInfoService infoService;
+    private final LoginThrottle loginThrottle;
 
     @PostMapping("/join")
     @ResponseStatus(HttpStatus.CREATED)
@@ -52,7 +64,10 @@ public class MemberController {
      * @param errors
      */
     @PostMapping("/login")
-    public JSONData login(@RequestBody @Valid RequestLogin form, Errors errors, HttpServletResponse response) {
+    public JSONData login(@RequestBody @Valid RequestLogin form, Errors errors, HttpServletRequest request, HttpServletResponse response) {
+
+        // 시도 횟수 제한 - 초과시 회원 조회, 비밀번호 비교 없이 429
+        loginThrottle.check(loginThrottle.clientIp(request), form.getEmail());
 
         loginValidator.validate(form, errors);
 
@@ -60,21 +75,55 @@ public class MemberController {
             throw new BadRequestException(utils.getErrorMessages(errors));
         }
 
-        String email = form.getEmail();
-        String token = tokenService.create(email);
+        // 검증시 조회한 회원 정보로 토큰 발급
+        MemberInfo memberInfo = (MemberInfo) request.getAttribute(LoginValidator.MEMBER_INFO);
+        if (memberInfo == null) {
+            memberInfo = (MemberInfo) infoService.loadUserByUsername(form.getEmail());
+        }
+
+        String token = tokenService.create(memberInfo);
+        String refreshToken = refreshTokenService.create(memberInfo);
+
+        sendTokens(response, new TokenPair(token, refreshToken));
+
+        return new JSONData(token);
+    }
+
+    /**
+     * 재발급 토큰으로 인증 토큰 재발급 - 비밀번호 검증 X
+     *  - 재발급 토큰도 새로 발급되며 이전 재발급 토큰은 사용 불가
+     *
+     * @param form : 재발급 토큰, 없으면 쿠키로 전달된 값 사용
+     */
+    @PostMapping("/token/refresh")
+    public JSONData refresh(@RequestBody(required = false) RequestRefresh form, @CookieValue(name = REFRESH_TOKEN, required = false) String cookieToken, HttpServletResponse response) {
+        String refreshToken = form != null && StringUtils.hasText(form.getRefreshToken()) ? form.getRefreshToken() : cookieToken;
+        if (!StringUtils.hasText(refreshToken)) {
+            throw new UnAuthorizedException();
+        }
+
+        TokenPair tokens = refreshTokenService.refresh(refreshToken);
 
+        sendTokens(response, tokens);
 
+        return new JSONData(tokens.token());
+    }
+
+    /**
+     * 발급 토큰 전달
+     *  - 인증 토큰 : 응답 데이터, 쿠키(token)
+     *  - 재발급 토큰 : 응답 헤더(X-Refresh-Token), 쿠키(refreshToken - 재발급 주소에만 전송)
+     */
+    private void sendTokens(HttpServletResponse response, TokenPair tokens) {
+        response.setHeader(REFRESH_TOKEN_HEADER, tokens.refreshToken());
 
         if (StringUtils.hasText(frontDomain)) {
             String[] domains = frontDomain.split(",");
             for (String domain : domains) {
-
-
-                response.setHeader("Set-Cookie", String.format("token=%s; Path=/; Domain=%s; Secure; HttpOnly; SameSite=None", token, domain)); // SameSite: None - 다른 서버에서도 쿠키 설정 가능, Https는 필수
+                response.addHeader("Set-Cookie", String.format("token=%s; Path=/; Domain=%s; Secure; HttpOnly; SameSite=None", tokens.token(), domain)); // SameSite: None - 다른 서버에서도 쿠키 설정 가능, Https는 필수
+                response.addHeader("Set-Cookie", String.format("%s=%s; Path=/token/refresh; Domain=%s; Secure; HttpOnly; SameSite=None", REFRESH_TOKEN, tokens.refreshToken(), domain));
             }
         }
-
-        return new JSONData(token);
     }
 
     /**
@@ -0,0 +1,36 @@
+package org.advisor.member.controllers;
+
+import lombok.Data;
+import org.advisor.member.constants.Authority;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * 회원 목록 조회 조건(관리자)
+ */
+@Data
+public class MemberSearch {
+    private String email; // 이메일 - 앞부분 일치
+    private String name; // 회원명 - 앞부분 일치
+    private Authority authority; // 회원 권한
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate createdFrom; // 가입일 검색 시작일
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate createdTo; // 가입일 검색 종료일
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate deletedFrom; // 탈퇴일 검색 시작일
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate deletedTo; // 탈퇴일 검색 종료일
+
+    private Boolean requiredTerms1; // 필수 약관 동의 여부
+    private Boolean requiredTerms2;
+    private Boolean requiredTerms3;
+
+    private Long lastSeq; // 이전 목록의 마지막 회원 번호 - 이 번호 이후(더 작은 번호)부터 조회
+    private int limit = 20; // 1번에 조회할 회원 수
+}
@@ -0,0 +1,36 @@
+package org.advisor.member.controllers;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 회원 일괄 등록 - 1행
+ */
+@Data
+public class RequestImport {
+
+    @Email
+    @NotBlank
+    private String email; // 이메일
+
+    @NotBlank
+    private String name; // 회원명
+
+    @NotBlank
+    private String password; // 비밀번호 - 복잡성은 PasswordPolicy로 검사
+
+    @AssertTrue
+    private boolean requiredTerms1; // 필수 약관 동의 여부
+
+    @AssertTrue
+    private boolean requiredTerms2;
+
+    @AssertTrue
+    private boolean requiredTerms3;
+
+    private List<String> optionalTerms; // 선택 약관 동의 여부
+}
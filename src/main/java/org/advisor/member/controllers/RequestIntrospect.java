@@ -0,0 +1,12 @@
+package org.advisor.member.controllers;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class RequestIntrospect {
+    @NotNull
+    private List<String> tokens; // 확인할 토큰 목록, 응답은 같은 순서
+}
@@ -0,0 +1,8 @@
+package org.advisor.member.controllers;
+
+import lombok.Data;
+
+@Data
+public class RequestRefresh {
+    private String refreshToken; // 없으면 쿠키(refreshToken)로 전달된 값 사용
+}
@@ -10,16 +10,35 @@ import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 회원 목록 조회(관리자) 권장 인덱스
+ *  - email은 unique 인덱스로 앞부분 일치 검색
+ *  - 가입일, 탈퇴일, 회원명 검색 + 회원 번호 역순 정렬
+ */
 @Data
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_member_created_at", columnList = "createdAt, seq"),
+        @Index(name = "idx_member_deleted_at", columnList = "deletedAt, seq"),
+        @Index(name = "idx_member_name", columnList = "name, seq")
+})
 public class Member extends BaseEntity implements Serializable {
-    @Id @GeneratedValue
-    private Long seq; // 회원 번호
+    public static final int SEQ_ALLOCATION_SIZE = 50;
+
+    /**
+     * 회원 번호
+     *  - 시퀀스 1번 조회로 50개 번호를 할당(대량 등록시 JDBC batch 단위와 동일)
+     *  - 기존 기본값(@GeneratedValue)과 같은 시퀀스, 증가값 사용
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "member_seq", allocationSize = Member.SEQ_ALLOCATION_SIZE)
+    private Long seq;
 
     @Column(length=65, nullable = false, unique = true)
     private String email; // 이메일
 
-    @Column(length=65)
+    @Column(length=120) // 해시 형식 접두어 포함({bcrypt}, {pbkdf2})
     private String password;
 
     @Column(length=40, nullable = false)
@@ -0,0 +1,41 @@
+package org.advisor.member.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재발급 토큰
+ *  - 토큰 원문은 저장하지 않고 SHA-256 해시(Base64URL, 43자)만 저장
+ *  - 재발급시 사용 처리(usedAt) 후 같은 family로 새 토큰 발급, 사용된 토큰이 다시 유입되면 family 전체 폐기
+ *  - 만료된 토큰은 RefreshTokenService.purge()에서 주기적으로 삭제
+ */
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expiresAt"),
+        @Index(name = "idx_refresh_token_family", columnList = "family")
+})
+public class RefreshToken {
+    @Id
+    @Column(length = 43)
+    private String tokenHash;
+
+    @Column(length = 22, nullable = false)
+    private String family; // 최초 로그인시 생성, 재발급된 토큰은 같은 값 유지
+
+    @Column(length = 65, nullable = false)
+    private String email;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime usedAt; // 재발급에 사용된 일시
+}
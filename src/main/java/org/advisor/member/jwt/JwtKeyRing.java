@@ -0,0 +1,234 @@
+package org.advisor.member.jwt;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.math.BigInteger;
+import java.security.*;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.*;
+
+/**
+ * 토큰 서명 키 목록
+ *
+ * - HS512 : jwt.secret으로 서명/검증, kid 헤더 없음(기존 방식)
+ * - ES256, EdDSA : 활성 키(jwt.signing.active-kid)로 서명하고 kid 헤더 추가, 검증은 kid로 목록의 공개키 선택
+ * - 비대칭 서명 중에는 HS512 토큰 거부, jwt.signing.accept-hmac=true인 경우만 전환 전에 발급된 토큰을 jwt.secret으로 검증
+ *   (jwt.secret은 다른 서비스와 공유하므로 전환이 끝나면 false로 되돌림)
+ * - 공개키 목록은 JWKS(RFC 7517) 형식으로 미리 직렬화 - HS512는 빈 목록(비밀키는 공개하지 않음)
+ */
+@Component
+@EnableConfigurationProperties(JwtProperties.class)
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    private final String algorithm;
+    private final SecretKey secretKey; // jwt.secret, 미설정시 null
+    private final SecretKey hmacKey; // HS512 토큰 검증키 - HS512 서명이거나 accept-hmac인 경우만, 그 외 null
+    private final Map<String, PublicKey> publicKeys = new LinkedHashMap<>(); // kid -> 검증키
+    private final String activeKid;
+    private final Key signingKey;
+    private final byte[] jwks;
+    private final String jwksEtag;
+
+    public JwtKeyRing(JwtProperties properties) {
+        JwtProperties.Signing signing = properties.getSigning();
+        this.algorithm = StringUtils.hasText(signing.getAlgorithm()) ? signing.getAlgorithm().toUpperCase(Locale.ROOT) : "HS512";
+        this.secretKey = StringUtils.hasText(properties.getSecret()) ? Keys.hmacShaKeyFor(Decoders.BASE64.decode(properties.getSecret())) : null;
+
+        if (isSymmetric()) {
+            if (secretKey == null) {
+                throw new IllegalStateException("jwt.secret is required for HS512");
+            }
+
+            this.activeKid = null;
+            this.signingKey = secretKey;
+        } else {
+            String keyAlgorithm = switch (algorithm) {
+                case "ES256" -> "EC";
+                case "EDDSA" -> "Ed25519";
+                default -> throw new IllegalStateException("Unsupported jwt.signing.algorithm: " + signing.getAlgorithm());
+            };
+
+            List<JwtProperties.SigningKey> keys = signing.getKeys();
+            if (keys == null || keys.isEmpty()) {
+                throw new IllegalStateException("jwt.signing.keys is required for " + signing.getAlgorithm());
+            }
+
+            this.activeKid = StringUtils.hasText(signing.getActiveKid()) ? signing.getActiveKid() : keys.get(0).getKid();
+
+            PrivateKey privateKey = null;
+            for (JwtProperties.SigningKey key : keys) {
+                if (!StringUtils.hasText(key.getKid()) || publicKeys.containsKey(key.getKid())) {
+                    throw new IllegalStateException("jwt.signing.keys[].kid must be unique and not empty");
+                }
+
+                publicKeys.put(key.getKid(), publicKey(keyAlgorithm, key.getPublicKey()));
+                if (key.getKid().equals(activeKid)) {
+                    privateKey = privateKey(keyAlgorithm, key.getPrivateKey());
+                }
+            }
+
+            if (privateKey == null) {
+                throw new IllegalStateException("jwt.signing.active-kid not found: " + activeKid);
+            }
+
+            this.signingKey = privateKey;
+        }
+
+        this.hmacKey = isSymmetric() || signing.isAcceptHmac() ? secretKey : null;
+        this.jwks = toJwks();
+        this.jwksEtag = etag(jwks);
+    }
+
+    /**
+     * 서명 키 - HS512는 SecretKey, 비대칭 서명은 활성 키의 PrivateKey
+     *
+     * @return
+     */
+    public Key getSigningKey() {
+        return signingKey;
+    }
+
+    /**
+     * 서명 키의 kid - HS512는 null
+     *
+     * @return
+     */
+    public String getActiveKid() {
+        return activeKid;
+    }
+
+    public boolean isSymmetric() {
+        return "HS512".equals(algorithm);
+    }
+
+    /**
+     * 직렬화된 JWKS - {"keys":[...]}
+     *
+     * @return
+     */
+    public byte[] getJwks() {
+        return jwks;
+    }
+
+    public String getJwksEtag() {
+        return jwksEtag;
+    }
+
+    /**
+     * 토큰 헤더의 alg, kid로 검증키 선택
+     *  - 알고리즘과 키 종류가 맞지 않으면 jjwt에서 검증 실패 처리
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        String alg = header.getAlgorithm();
+        if (alg != null && alg.startsWith("HS")) {
+            if (hmacKey == null) {
+                throw new UnsupportedJwtException("HMAC signed token is not accepted");
+            }
+
+            return hmacKey;
+        }
+
+        String kid = header.getKeyId();
+        PublicKey key = kid == null ? null : publicKeys.get(kid);
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown key id: " + kid);
+        }
+
+        return key;
+    }
+
+    private PublicKey publicKey(String keyAlgorithm, String encoded) {
+        PublicKey key;
+        try {
+            key = KeyFactory.getInstance(keyAlgorithm).generatePublic(new X509EncodedKeySpec(Base64.getMimeDecoder().decode(encoded)));
+        } catch (Exception e) {
+            throw new IllegalStateException("Invalid jwt.signing public key", e);
+        }
+
+        // ES256은 P-256 키만 사용 - 다른 곡선은 jjwt가 ES384/ES512로 서명
+        if (key instanceof ECPublicKey ec && ec.getParams().getCurve().getField().getFieldSize() != 256) {
+            throw new IllegalStateException("ES256 requires a P-256 key");
+        }
+
+        return key;
+    }
+
+    private PrivateKey privateKey(String keyAlgorithm, String encoded) {
+        if (!StringUtils.hasText(encoded)) {
+            throw new IllegalStateException("Private key of active kid is required: " + activeKid);
+        }
+
+        try {
+            return KeyFactory.getInstance(keyAlgorithm).generatePrivate(new PKCS8EncodedKeySpec(Base64.getMimeDecoder().decode(encoded)));
+        } catch (Exception e) {
+            throw new IllegalStateException("Invalid jwt.signing private key", e);
+        }
+    }
+
+    private byte[] toJwks() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+        List<Map<String, String>> keys = new ArrayList<>();
+        publicKeys.forEach((kid, key) -> {
+            Map<String, String> jwk = new LinkedHashMap<>();
+            if (key instanceof ECPublicKey ec) {
+                jwk.put("kty", "EC");
+                jwk.put("crv", "P-256");
+                jwk.put("x", encoder.encodeToString(unsigned(ec.getW().getAffineX(), 32)));
+                jwk.put("y", encoder.encodeToString(unsigned(ec.getW().getAffineY(), 32)));
+                jwk.put("alg", "ES256");
+            } else { // Ed25519 - X.509 인코딩의 마지막 32바이트가 공개키
+                byte[] encoded = key.getEncoded();
+                jwk.put("kty", "OKP");
+                jwk.put("crv", "Ed25519");
+                jwk.put("x", encoder.encodeToString(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length)));
+                jwk.put("alg", "EdDSA");
+            }
+            jwk.put("use", "sig");
+            jwk.put("kid", kid);
+
+            keys.add(jwk);
+        });
+
+        try {
+            return new ObjectMapper().writeValueAsBytes(Map.of("keys", keys));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 부호 없는 고정 길이 big-endian 바이트
+     */
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        byte[] result = new byte[length];
+        int copy = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copy, result, length - copy, copy);
+
+        return result;
+    }
+
+    private static String etag(byte[] value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value);
+
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
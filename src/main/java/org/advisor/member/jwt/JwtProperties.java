@@ -3,9 +3,75 @@ package org.advisor.member.jwt;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 @Data
 @ConfigurationProperties(prefix = "jwt")
 public class JwtProperties {
     private String secret;
     private int validTime;
+    private boolean statelessPrincipal = true; // 토큰 클레임만으로 인증 회원 정보 구성(요청마다 DB 조회 X)
+    private Cache cache = new Cache();
+    private Refresh refresh = new Refresh();
+    private Signing signing = new Signing();
+    private Introspect introspect = new Introspect();
+
+    /**
+     * 검증된 토큰 캐시 설정
+     */
+    @Data
+    public static class Cache {
+        private boolean enabled = true;
+        private long maxSize = 10_000L; // 최대 보관 토큰 수
+    }
+
+    /**
+     * 재발급 토큰 설정
+     */
+    @Data
+    public static class Refresh {
+        private long validTime = 14 * 24 * 60 * 60L; // 유효 시간(초) - 14일
+        private long purgeDelay = 60 * 60 * 1000L; // 만료 토큰 삭제 주기(ms)
+    }
+
+    /**
+     * 토큰 일괄 확인(/internal/token/introspect) 설정
+     */
+    @Data
+    public static class Introspect {
+        private int maxTokens = 1000; // 1회 요청 최대 토큰 수
+        private int parallelism = Runtime.getRuntime().availableProcessors(); // 검증 스레드 수
+        private int sliceSize = 32; // 스레드 1개에 나눠주는 최소 토큰 수 - 작은 요청은 요청 스레드에서 바로 처리
+    }
+
+    /**
+     * 토큰 서명 설정
+     *
+     * - algorithm : HS512(기본값, jwt.secret 사용), ES256, EdDSA(Ed25519)
+     * - 비대칭 서명시 공개키를 /.well-known/jwks.json으로 제공 - 다른 서비스에서 직접 검증 가능
+     * - 키 교체 : 새 키를 추가하고 active-kid를 변경, 이전 키는 발급된 토큰이 모두 만료될 때까지(jwt.valid-time 이상) 목록에 유지
+     */
+    @Data
+    public static class Signing {
+        private String algorithm = "HS512";
+        private String activeKid; // 서명에 사용할 키, 미설정시 keys의 첫번째 키
+        private List<SigningKey> keys = new ArrayList<>();
+        private Duration jwksMaxAge = Duration.ofMinutes(5); // JWKS 응답 캐시 시간
+        // 비대칭 서명 중 jwt.secret으로 서명된 HS512 토큰 검증 여부 - 전환 직후 기존 토큰이 만료될 때까지만 true
+        private boolean acceptHmac;
+    }
+
+    /**
+     * 서명 키
+     *  - privateKey : PKCS#8 DER Base64, 서명에 사용하는 키만 필요
+     *  - publicKey : X.509 DER Base64
+     */
+    @Data
+    public static class SigningKey {
+        private String kid;
+        private String privateKey;
+        private String publicKey;
+    }
 }
@@ -0,0 +1,144 @@
+package org.advisor.member.jwt;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.advisor.global.exceptions.UnAuthorizedException;
+import org.advisor.member.MemberInfo;
+import org.advisor.member.entities.RefreshToken;
+import org.advisor.member.repositories.RefreshTokenRepository;
+import org.advisor.member.services.MemberInfoService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 재발급 토큰 발급, 교체
+ *
+ * - 재발급 토큰은 임의의 32바이트 값, DB에는 해시만 저장
+ * - 재발급 요청시 기존 토큰은 사용 처리하고 새 재발급 토큰과 인증 토큰을 발급(rotation)
+ * - 이미 사용된 토큰이 다시 유입되면 탈취로 보고 같은 family 전체 폐기(reuse detection)
+ * - 비밀번호 검증 없이 회원 캐시로 인증 토큰 발급
+ */
+@Slf4j
+@Service // 만료 토큰 삭제 작업(@Scheduled) 등록을 위해 지연 로딩 X
+@RequiredArgsConstructor
+@Transactional
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final JwtProperties properties;
+    private final RefreshTokenRepository repository;
+    private final TokenService tokenService;
+    private final MemberInfoService infoService;
+    private final EntityManager em;
+
+    /**
+     * 로그인시 발급 - 새 family 시작
+     *
+     * @param memberInfo
+     * @return 재발급 토큰
+     */
+    public String create(MemberInfo memberInfo) {
+        return create(memberInfo.getEmail(), random(16));
+    }
+
+    /**
+     * 재발급 토큰으로 인증 토큰, 재발급 토큰 교체
+     *
+     * @param refreshToken
+     * @return
+     */
+    @Transactional(noRollbackFor = UnAuthorizedException.class) // 재사용 감지시 family 폐기는 반영
+    public TokenPair refresh(String refreshToken) {
+        LocalDateTime now = LocalDateTime.now();
+        String tokenHash = hash(refreshToken);
+
+        RefreshToken item = repository.findById(tokenHash).orElse(null);
+        if (item == null || item.getExpiresAt().isBefore(now)) {
+            throw unAuthorized("JWT.refresh.invalid");
+        }
+
+        if (item.getUsedAt() != null || repository.markUsed(tokenHash, now) == 0) {
+            // 이미 사용된 토큰 - 탈취 가능성, 같은 family로 발급된 토큰 모두 폐기
+            repository.deleteByFamily(item.getFamily());
+            log.atWarn().addKeyValue("errorCode", "JWT.refresh.reused").log("Refresh token reused, family revoked");
+            throw unAuthorized("JWT.refresh.reused");
+        }
+
+        MemberInfo memberInfo;
+        try {
+            memberInfo = (MemberInfo) infoService.loadUserByUsername(item.getEmail());
+        } catch (UsernameNotFoundException e) {
+            throw unAuthorized("JWT.refresh.invalid");
+        }
+
+        if (!memberInfo.isEnabled()) { // 탈퇴 회원
+            repository.deleteByFamily(item.getFamily());
+            throw unAuthorized("JWT.refresh.invalid");
+        }
+
+        return new TokenPair(tokenService.create(memberInfo), create(item.getEmail(), item.getFamily()));
+    }
+
+    /**
+     * 만료된 재발급 토큰 삭제
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh.purge-delay:3600000}")
+    public void purge() {
+        int count = repository.deleteExpired(LocalDateTime.now());
+        if (count > 0) {
+            log.info("Purged {} expired refresh tokens", count);
+        }
+    }
+
+    private String create(String email, String family) {
+        String token = random(32);
+
+        em.persist(RefreshToken.builder() // 키를 직접 지정하는 엔티티 - save()는 merge 전 select 발생하므로 persist
+                .tokenHash(hash(token))
+                .family(family)
+                .email(email)
+                .expiresAt(LocalDateTime.now().plusSeconds(properties.getRefresh().getValidTime()))
+                .build());
+
+        return token;
+    }
+
+    private String random(int size) {
+        byte[] bytes = new byte[size];
+        RANDOM.nextBytes(bytes);
+
+        return ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * SHA-256 -> Base64URL(43자)
+     */
+    static String hash(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+
+            return ENCODER.encodeToString(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private UnAuthorizedException unAuthorized(String code) {
+        UnAuthorizedException exception = new UnAuthorizedException(code);
+        exception.setErrorCode(true);
+
+        return exception;
+    }
+}
@@ -0,0 +1,111 @@
+package org.advisor.member.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * 검증이 끝난 토큰 캐시
+ *
+ * - 키 : 토큰 SHA-256 다이제스트 앞 128bit
+ * - 값 : subject, 권한 목록, 만료 시각
+ * - 토큰의 exp 시각에 정확히 만료, 최대 개수 초과시 제거
+ * - 적중/실패 통계는 jwt.tokens 이름으로 Actuator metrics에 노출
+ */
+@Component
+public class TokenCache {
+
+    private final boolean enabled;
+    private final Cache<TokenDigest, VerifiedToken> cache;
+
+    public TokenCache(JwtProperties properties, MeterRegistry registry) {
+        JwtProperties.Cache config = properties.getCache();
+        this.enabled = config.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, cache, "jwt.tokens");
+    }
+
+    /**
+     * 캐시된 검증 결과 조회, 없으면 verifier로 검증 후 보관
+     *
+     * verifier에서 발생한 예외(검증 실패)는 그대로 전파되며 캐시하지 않음
+     *
+     * @param token
+     * @param verifier
+     * @return
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+
+        TokenDigest key = TokenDigest.of(token);
+        VerifiedToken verified = cache.get(key, k -> verifier.apply(token));
+        if (verified.isExpired()) { // 만료 처리 전 조회된 경우 - 재검증하여 JWT.expired로 처리
+            cache.invalidate(key);
+            return verifier.apply(token);
+        }
+
+        return verified;
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 토큰 다이제스트 - 원본 토큰 대신 고정 크기 키로 보관
+     */
+    record TokenDigest(long high, long low) {
+        static TokenDigest of(String token) {
+            try {
+                MessageDigest md = MessageDigest.getInstance("SHA-256");
+                ByteBuffer buffer = ByteBuffer.wrap(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+
+                return new TokenDigest(buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * 항목별 만료 시간 - 토큰의 exp까지
+     */
+    static class TokenExpiry implements Expiry<TokenDigest, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(TokenDigest key, VerifiedToken value, long currentTime) {
+            if (value.expiresAt() == null) {
+                return 0L; // 만료 시각이 없는 토큰은 보관하지 않음
+            }
+
+            return Math.max(0L, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package org.advisor.member.jwt;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.advisor.global.exceptions.BadRequestException;
+import org.advisor.global.exceptions.UnAuthorizedException;
+import org.advisor.member.jwt.filters.LoginFilter;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 토큰 일괄 확인 - 게이트웨이, 다른 서비스용
+ *
+ * - 토큰 목록을 slice-size 이상 묶음으로 나눠 검증 스레드에서 병렬 검증, 첫 묶음은 요청 스레드에서 처리
+ * - 서명 검증 + 검증된 토큰 캐시만 사용, 회원 DB 조회 X
+ * - 결과는 요청 순서대로 묶음이 끝나는 대로 바로 출력
+ *   [{"active":true,"sub":"user01@test.org","seq":1,"authorities":["USER"],"exp":1700000000},{"active":false,"error":"JWT.expired"}]
+ */
+@Lazy
+@Service
+@RequiredArgsConstructor
+public class TokenIntrospectionService {
+
+    private final JwtProperties properties;
+    private final TokenService tokenService;
+    private final TokenCache tokenCache;
+    private final ObjectMapper objectMapper;
+
+    private volatile ExecutorService executor;
+
+    /**
+     * 토큰 목록 검증 결과를 out에 출력
+     *
+     * @param tokens
+     * @param out
+     * @throws BadRequestException jwt.introspect.max-tokens 초과
+     */
+    public void process(List<String> tokens, OutputStream out) throws IOException {
+        JwtProperties.Introspect config = properties.getIntrospect();
+        if (tokens.size() > config.getMaxTokens()) {
+            BadRequestException exception = new BadRequestException("JWT.introspect.limit");
+            exception.setErrorCode(true);
+            throw exception;
+        }
+
+        int size = tokens.size();
+        int parallelism = Math.max(1, config.getParallelism());
+        int sliceSize = Math.max(Math.max(1, config.getSliceSize()), (size + parallelism - 1) / parallelism);
+
+        // 두번째 묶음부터 검증 스레드에 맡기고, 첫 묶음은 바로 처리
+        List<CompletableFuture<Result[]>> slices = new ArrayList<>();
+        for (int from = sliceSize; from < size; from += sliceSize) {
+            List<String> slice = tokens.subList(from, Math.min(size, from + sliceSize));
+            slices.add(CompletableFuture.supplyAsync(() -> introspect(slice), executor()));
+        }
+
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            gen.writeStartArray();
+            write(gen, introspect(tokens.subList(0, Math.min(size, sliceSize))));
+            for (CompletableFuture<Result[]> slice : slices) {
+                write(gen, slice.join());
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    private Result[] introspect(List<String> tokens) {
+        Result[] results = new Result[tokens.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = introspect(tokens.get(i));
+        }
+
+        return results;
+    }
+
+    private Result introspect(String token) {
+        if (token == null || !LoginFilter.isWellFormed(token)) {
+            return new Result(null, "JWT.malformed");
+        }
+
+        try {
+            return new Result(tokenCache.get(token, tokenService::verify), null);
+        } catch (UnAuthorizedException e) {
+            return new Result(null, e.getMessage()); // JWT.* 에러 코드
+        }
+    }
+
+    private void write(JsonGenerator gen, Result[] results) throws IOException {
+        for (Result result : results) {
+            gen.writeStartObject();
+            VerifiedToken token = result.token();
+            if (token == null) {
+                gen.writeBooleanField("active", false);
+                gen.writeStringField("error", result.errorCode());
+            } else {
+                gen.writeBooleanField("active", true);
+                gen.writeStringField("sub", token.subject());
+                if (token.seq() != null) {
+                    gen.writeNumberField("seq", token.seq());
+                }
+
+                gen.writeArrayFieldStart("authorities");
+                for (SimpleGrantedAuthority authority : token.authorities()) {
+                    gen.writeString(authority.getAuthority());
+                }
+                gen.writeEndArray();
+
+                if (token.expiresAt() != null) {
+                    gen.writeNumberField("exp", token.expiresAt().getEpochSecond());
+                }
+            }
+            gen.writeEndObject();
+        }
+
+        gen.flush(); // 묶음 단위로 바로 전송
+    }
+
+    /**
+     * 검증 스레드 - 첫 요청시 생성, CPU 작업만 수행하므로 코어 수만큼
+     */
+    private ExecutorService executor() {
+        ExecutorService executor = this.executor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.executor;
+                if (executor == null) {
+                    executor = this.executor = new ForkJoinPool(Math.max(1, properties.getIntrospect().getParallelism()));
+                }
+            }
+        }
+
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ExecutorService executor = this.executor;
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private record Result(VerifiedToken token, String errorCode) {}
+}
@@ -0,0 +1,9 @@
+package org.advisor.member.jwt;
+
+/**
+ * 발급 토큰
+ *
+ * @param token : 인증 토큰(JWT)
+ * @param refreshToken : 재발급 토큰
+ */
+public record TokenPair(String token, String refreshToken) {}
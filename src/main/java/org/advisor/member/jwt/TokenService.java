@@ -1,24 +1,19 @@
 package org.advisor.member.jwt;
 
 import org.advisor.global.exceptions.UnAuthorizedException;
-import org.advisor.global.libs.Utils;
 import org.advisor.member.MemberInfo;
+import org.advisor.member.MemberMetrics;
 import org.advisor.member.services.MemberInfoService;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
-import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
 
-import java.security.Key;
-import java.util.Arrays;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,18 +24,24 @@ public class TokenService {
 
     private final JwtProperties properties;
     private final MemberInfoService infoService;
+    private final TokenCache tokenCache;
+    private final MemberMetrics metrics;
+    private final JwtKeyRing keyRing;
 
-    @Autowired
-    private Utils utils;
-
-    private Key key;
+    /**
+     * 서명 검증용 파서 - 불변 객체이므로 스레드 안전, 요청마다 생성하지 않고 재사용
+     */
+    private JwtParser parser;
 
-    public TokenService(JwtProperties properties, MemberInfoService infoService) {
+    public TokenService(JwtProperties properties, MemberInfoService infoService, TokenCache tokenCache, MemberMetrics metrics, JwtKeyRing keyRing) {
         this.properties = properties;
         this.infoService = infoService;
+        this.tokenCache = tokenCache;
+        this.metrics = metrics;
+        this.keyRing = keyRing;
 
-        byte[] keyBytes = Decoders.BASE64.decode(properties.getSecret());
-        this.key = Keys.hmacShaKeyFor(keyBytes);
+        // 헤더의 alg, kid로 검증키 선택 - 키 교체 중 이전 키로 서명된 토큰도 검증
+        this.parser = Jwts.parser().keyLocator(keyRing).build();
     }
 
     /**
@@ -52,16 +53,45 @@ public class TokenService {
     public String create(String email) {
         MemberInfo memberInfo = (MemberInfo)infoService.loadUserByUsername(email);
 
+        return create(memberInfo);
+    }
+
+    /**
+     * JWT 토큰 생성 - 이미 조회한 회원 정보로 발급
+     *
+     * @param memberInfo
+     * @return
+     */
+    public String create(MemberInfo memberInfo) {
+        long start = System.nanoTime();
+
         String authorities = memberInfo.getAuthorities().stream().map(a -> a.getAuthority()).collect(Collectors.joining("||"));
         int validTime = properties.getValidTime() * 1000;
         Date date = new Date((new Date()).getTime() + validTime); // 15분 뒤의 시간(만료 시간)
 
-        return Jwts.builder()
+        // 토큰만으로 회원 정보(MemberInfo)를 구성할 수 있도록 추가 클레임 포함
+        LocalDateTime credentialChangedAt = memberInfo.getCredentialChangedAt();
+
+        JwtBuilder builder = Jwts.builder();
+        if (keyRing.isSymmetric()) {
+            builder.signWith(keyRing.getSigningKey(), SignatureAlgorithm.HS512);
+        } else { // 키 종류로 알고리즘 결정(EC P-256 - ES256, Ed25519 - EdDSA)
+            builder.header().keyId(keyRing.getActiveKid()).and()
+                    .signWith(keyRing.getSigningKey());
+        }
+
+        String token = builder
                 .setSubject(memberInfo.getEmail())
                 .claim("authorities", authorities)
-                .signWith(key, SignatureAlgorithm.HS512)
+                .claim("seq", memberInfo.getSeq())
+                .claim("name", memberInfo.getName())
+                .claim("credentialChangedAt", credentialChangedAt == null ? null : credentialChangedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
                 .setExpiration(date)
                 .compact();
+
+        metrics.tokenCreated(System.nanoTime() - start);
+
+        return token;
     }
 
     /**
@@ -74,23 +104,27 @@ public class TokenService {
      */
     public Authentication authenticate(String token) {
 
-        // 토큰 유효성 검사
-        validate(token);
-
-        Claims claims = Jwts.parser()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getPayload();
-
-        String email = claims.getSubject();
-        String authorities = (String) claims.get("authorities");
-        List<SimpleGrantedAuthority> _authorities = Arrays.stream(authorities.split("\\|\\|")).map(SimpleGrantedAuthority::new).toList();
-        System.out.println("authorities:" + authorities);
-        System.out.println("_authorities:" + _authorities);
-
-        MemberInfo memberInfo = (MemberInfo) infoService.loadUserByUsername(email);
-        memberInfo.setAuthorities(_authorities);
+        // 토큰 유효성 검사 + Claims 추출 - 이미 검증된 토큰은 캐시에서 조회
+        VerifiedToken verified = tokenCache.get(token, this::verify);
+
+        String email = verified.subject();
+        List<SimpleGrantedAuthority> _authorities = verified.authorities();
+
+        MemberInfo memberInfo;
+        if (properties.isStatelessPrincipal() && verified.seq() != null) {
+            // 토큰 클레임만으로 회원 정보 구성, 회원 엔티티는 필요한 시점에 조회
+            memberInfo = MemberInfo.builder()
+                    .seq(verified.seq())
+                    .email(email)
+                    .name(verified.name())
+                    .credentialChangedAt(verified.credentialChangedAt())
+                    .authorities(_authorities)
+                    .memberLoader(() -> infoService.get(email))
+                    .build();
+        } else { // 추가 클레임이 없는 이전 토큰
+            memberInfo = (MemberInfo) infoService.loadUserByUsername(email);
+            memberInfo.setAuthorities(_authorities);
+        }
 
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(memberInfo, null, _authorities);
 
@@ -99,48 +133,66 @@ public class TokenService {
         return authentication;
     }
 
-    public Authentication authenticate(HttpServletRequest request) {
-        String authHeader = request.getHeader("Authorization");
-
-        if (!StringUtils.hasText(authHeader)) {
-            return null; // 회원가입 또는 로그인 시
-        }
-
-        String token = authHeader.substring(7);
-
-        return authenticate(token);
-    }
-
     /**
      * 토큰 검증
      *
      * @param token
      */
     public void validate(String token) {
-        String errorCode = null;
-        Exception error = null;
+        parse(token);
+    }
+
+    /**
+     * 토큰 검증 및 Claims 추출
+     *
+     * 서명 검증과 JSON 디코딩을 한번만 수행하고, 실패시 JWT.* 에러 코드로 변환
+     *
+     * @param token
+     * @return
+     */
+    public Claims parse(String token) {
+        long start = System.nanoTime();
         try {
-            Jwts.parser().setSigningKey(key).build().parseClaimsJws(token).getPayload();
-        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
-            errorCode = "JWT.malformed";
-            error = e;
-        } catch (ExpiredJwtException e) { // 토큰 만료
-            errorCode = "JWT.expired";
-            error = e;
-        } catch (UnsupportedJwtException e) {
-            errorCode = "JWT.unsupported";
-            error = e;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            metrics.tokenVerified(System.nanoTime() - start, null);
+
+            return claims;
         } catch (Exception e) {
-            errorCode = "JWT.error";
-            error = e;
-        }
+            String errorCode = getErrorCode(e);
+            metrics.tokenVerified(System.nanoTime() - start, errorCode);
 
-        if (StringUtils.hasText(errorCode)) {
-            throw new UnAuthorizedException(utils.getMessage(errorCode));
+            // 에러 코드로 전달 - 메세지는 응답시 변환, 로그/지표에는 코드 그대로 사용
+            UnAuthorizedException exception = new UnAuthorizedException(errorCode);
+            exception.setErrorCode(true);
+            throw exception;
         }
+    }
 
-        if (error != null) {
-            error.printStackTrace();
+    /**
+     * 토큰 검증 후 캐시 가능한 형태로 변환
+     *
+     * @param token
+     * @return
+     */
+    public VerifiedToken verify(String token) {
+        return VerifiedToken.of(parse(token));
+    }
+
+    /**
+     * jjwt 예외 -> 에러 코드
+     *
+     * @param e
+     * @return
+     */
+    public static String getErrorCode(Exception e) {
+        if (e instanceof io.jsonwebtoken.security.SecurityException || e instanceof MalformedJwtException) {
+            return "JWT.malformed";
+        } else if (e instanceof ExpiredJwtException) { // 토큰 만료
+            return "JWT.expired";
+        } else if (e instanceof UnsupportedJwtException) {
+            return "JWT.unsupported";
         }
+
+        return "JWT.error";
     }
 }
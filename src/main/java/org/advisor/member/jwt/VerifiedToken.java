@@ -0,0 +1,46 @@
+package org.advisor.member.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 서명 검증이 끝난 토큰 정보
+ *
+ * @param subject : 회원 이메일
+ * @param seq : 회원 번호, 추가 클레임이 없는 이전 토큰은 null
+ * @param name : 회원명
+ * @param credentialChangedAt : 비밀번호 변경 일시
+ * @param authorities : authorities 클레임을 분리한 권한 목록
+ * @param expiresAt : 토큰 만료 시각(exp), 만료 시각이 없는 토큰은 null
+ */
+public record VerifiedToken(String subject, Long seq, String name, LocalDateTime credentialChangedAt,
+                            List<SimpleGrantedAuthority> authorities, Instant expiresAt) {
+
+    public static VerifiedToken of(Claims claims) {
+        String authorities = (String) claims.get("authorities");
+        List<SimpleGrantedAuthority> _authorities = StringUtils.hasText(authorities) ?
+                Arrays.stream(authorities.split("\\|\\|")).map(SimpleGrantedAuthority::new).toList() : List.of();
+
+        Long credentialChangedAt = claims.get("credentialChangedAt", Long.class);
+        Date expiration = claims.getExpiration();
+
+        return new VerifiedToken(claims.getSubject(),
+                claims.get("seq", Long.class),
+                claims.get("name", String.class),
+                credentialChangedAt == null ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(credentialChangedAt), ZoneId.systemDefault()),
+                _authorities,
+                expiration == null ? null : expiration.toInstant());
+    }
+
+    public boolean isExpired() {
+        return expiresAt != null && !expiresAt.isAfter(Instant.now());
+    }
+}
@@ -1,38 +1,129 @@
 package org.advisor.member.jwt.filters;
 
-import org.advisor.global.exceptions.UnAuthorizedException;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.ServletRequest;
-import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
-
+import org.advisor.global.advice.CommonControllerAdvice;
+import org.advisor.global.configs.SecurityConfig;
+import org.advisor.global.exceptions.UnAuthorizedException;
+import org.advisor.global.libs.Utils;
 import org.advisor.member.jwt.TokenService;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
-import org.springframework.web.filter.GenericFilterBean;
+import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
 
+/**
+ * 토큰 로그인 처리
+ *
+ * - 공개 주소(SecurityConfig.PUBLIC_URLS)는 토큰 처리 X
+ * - Authorization: Bearer 토큰 형식이 아니면 서명 검증 전에 401
+ * - 토큰 검증 실패시 401(에러 코드의 메세지) 응답 후 필터 체인 중단
+ */
 @Component
-@RequiredArgsConstructor
-public class LoginFilter extends GenericFilterBean {
+public class LoginFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+    private static final int MAX_TOKEN_LENGTH = 8192;
 
     private final TokenService tokenService;
+    private final MeterRegistry meterRegistry;
+    private final Utils utils;
+
+    /**
+     * 공개 주소 - 기동시 1번만 생성
+     */
+    private final RequestMatcher publicMatcher;
+
+    public LoginFilter(TokenService tokenService, MeterRegistry meterRegistry, Utils utils) {
+        this.tokenService = tokenService;
+        this.meterRegistry = meterRegistry;
+        this.utils = utils;
+        this.publicMatcher = new OrRequestMatcher(Arrays.stream(SecurityConfig.PUBLIC_URLS)
+                .map(url -> (RequestMatcher) new AntPathRequestMatcher(url))
+                .toList());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return publicMatcher.matches(request);
+    }
 
     @Override
-    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader == null || authHeader.isEmpty()) { // 토큰 없음 - 접근 권한은 보안 설정에서 판단
+            chain.doFilter(request, response);
+            return;
+        }
 
         // 토큰이 유입되면 로그인 처리
         try {
-            tokenService.authenticate((HttpServletRequest) request);
+            if (!authHeader.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+                throw unAuthorized("JWT.malformed");
+            }
+
+            String token = authHeader.substring(BEARER.length()).trim();
+            if (!isWellFormed(token)) {
+                throw unAuthorized("JWT.malformed");
+            }
+
+            tokenService.authenticate(token);
+
         } catch (UnAuthorizedException e) {
-            HttpServletResponse res = (HttpServletResponse) response;
-            res.sendError(HttpServletResponse.SC_UNAUTHORIZED, e.getMessage());
-            e.printStackTrace();
+            // 만료, 위변조 토큰은 예상된 에러 - 로그 대신 지표로 집계
+            String errorCode = CommonControllerAdvice.getErrorCode(e);
+            meterRegistry.counter("http.client.errors", "status", "401", "errorCode", errorCode).increment();
+
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, utils.getMessage(errorCode));
+            return; // 응답 완료 - 이후 필터, 컨트롤러 실행 X
         }
 
         chain.doFilter(request, response);
     }
+
+    /**
+     * 토큰 구조 확인 - Base64 디코딩, 서명 검증 전 단계
+     *  - header.payload.signature 3부분, Base64URL 문자만 허용
+     *
+     * @param token
+     * @return
+     */
+    public static boolean isWellFormed(String token) {
+        int length = token.length();
+        if (length == 0 || length > MAX_TOKEN_LENGTH) {
+            return false;
+        }
+
+        int dots = 0;
+        int partLength = 0;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (partLength == 0 || ++dots > 2) {
+                    return false;
+                }
+                partLength = 0;
+            } else if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_') {
+                partLength++;
+            } else {
+                return false;
+            }
+        }
+
+        return dots == 2 && partLength > 0;
+    }
+
+    private UnAuthorizedException unAuthorized(String code) {
+        UnAuthorizedException exception = new UnAuthorizedException(code);
+        exception.setErrorCode(true);
+
+        return exception;
+    }
 }
@@ -5,7 +5,10 @@ import org.advisor.member.entities.Member;
 import org.advisor.member.entities.QMember;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -19,4 +22,13 @@ public interface MemberRepository extends JpaRepository<Member, Long>, QuerydslP
 
         return exists(member.email.eq(email));
     }
+
+    /**
+     * 비밀번호 해시 교체 - 조회 이후 비밀번호가 변경되지 않은 경우만
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :hash WHERE m.seq = :seq AND m.password = :oldHash")
+    int updatePassword(@Param("seq") Long seq, @Param("oldHash") String oldHash, @Param("hash") String hash);
 }
@@ -0,0 +1,11 @@
+package org.advisor.member.services;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "member.export")
+public class MemberExportProperties {
+    private int chunkSize = 1_000; // 1번에 조회할 회원 수
+    private int fetchSize = 500; // JDBC fetch size - Oracle 기본값(10)은 왕복이 너무 많음
+}
@@ -0,0 +1,19 @@
+package org.advisor.member.services;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 1행 - 내보내기(CSV, NDJSON)
+ */
+public record MemberExportRow(
+        Long seq,
+        String email,
+        String name,
+        boolean requiredTerms1,
+        boolean requiredTerms2,
+        boolean requiredTerms3,
+        String optionalTerms,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt,
+        LocalDateTime deletedAt
+) {}
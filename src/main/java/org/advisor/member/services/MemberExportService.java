@@ -0,0 +1,149 @@
+package org.advisor.member.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.advisor.member.constants.DataFormat;
+import org.advisor.member.entities.QMember;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 회원 내보내기
+ *
+ * - 회원 번호(seq) 기준 keyset 페이징 - 마지막 번호 이후 chunk-size 건씩 조회, OFFSET 사용 X
+ * - 조회한 묶음을 바로 출력 스트림에 쓰고 영속성 컨텍스트를 비움, 회원 수와 관계 없이 메모리 사용량 일정
+ */
+@Lazy
+@Service
+@RequiredArgsConstructor
+@EnableConfigurationProperties(MemberExportProperties.class)
+public class MemberExportService {
+
+    public static final String CSV_HEADER = "seq,email,name,requiredTerms1,requiredTerms2,requiredTerms3,optionalTerms,createdAt,modifiedAt,deletedAt";
+
+    private final MemberExportProperties properties;
+    private final EntityManager em;
+    private final JPAQueryFactory queryFactory;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 회원을 out에 출력
+     *
+     * @param out
+     * @param format
+     * @return 출력한 회원 수
+     */
+    public long process(OutputStream out, DataFormat format) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(MemberExportRow.class);
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        if (format == DataFormat.CSV) {
+            w.write(CSV_HEADER);
+            w.write('\n');
+        }
+
+        long count = 0L;
+        Long lastSeq = null;
+        List<MemberExportRow> items;
+        do {
+            items = fetch(lastSeq);
+            for (MemberExportRow item : items) {
+                if (format == DataFormat.CSV) {
+                    writeCsv(w, item);
+                } else {
+                    w.write(writer.writeValueAsString(item));
+                }
+                w.write('\n');
+            }
+
+            if (!items.isEmpty()) {
+                lastSeq = items.get(items.size() - 1).seq();
+                count += items.size();
+            }
+
+            w.flush(); // 묶음 단위로 클라이언트에 전송
+            em.clear(); // 요청 범위의 영속성 컨텍스트(open-in-view)가 커지지 않도록 비움
+        } while (items.size() == properties.getChunkSize());
+
+        return count;
+    }
+
+    /**
+     * lastSeq 다음 회원부터 chunk-size 건 조회 - 엔티티가 아닌 행 단위로 조회
+     */
+    private List<MemberExportRow> fetch(Long lastSeq) {
+        QMember member = QMember.member;
+        return queryFactory.select(Projections.constructor(MemberExportRow.class,
+                        member.seq,
+                        member.email,
+                        member.name,
+                        member.requiredTerms1,
+                        member.requiredTerms2,
+                        member.requiredTerms3,
+                        member.optionalTerms,
+                        member.createdAt,
+                        member.modifiedAt,
+                        member.deletedAt))
+                .from(member)
+                .where(lastSeq == null ? null : member.seq.gt(lastSeq))
+                .orderBy(member.seq.asc())
+                .limit(properties.getChunkSize())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, properties.getFetchSize())
+                .fetch();
+    }
+
+    private void writeCsv(Writer w, MemberExportRow item) throws IOException {
+        w.write(String.valueOf(item.seq()));
+        w.write(',');
+        w.write(csv(item.email()));
+        w.write(',');
+        w.write(csv(item.name()));
+        w.write(',');
+        w.write(String.valueOf(item.requiredTerms1()));
+        w.write(',');
+        w.write(String.valueOf(item.requiredTerms2()));
+        w.write(',');
+        w.write(String.valueOf(item.requiredTerms3()));
+        w.write(',');
+        w.write(csv(item.optionalTerms()));
+        w.write(',');
+        w.write(csv(item.createdAt()));
+        w.write(',');
+        w.write(csv(item.modifiedAt()));
+        w.write(',');
+        w.write(csv(item.deletedAt()));
+    }
+
+    private String csv(LocalDateTime value) {
+        return value == null ? "" : value.toString();
+    }
+
+    /**
+     * 쉼표, 큰따옴표, 줄바꿈이 있으면 큰따옴표로 감쌈
+     */
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return "\"" + value.replace("\"", "\"\"") + "\"";
+            }
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,17 @@
+package org.advisor.member.services;
+
+import lombok.Data;
+import org.advisor.member.entities.Member;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "member.import")
+public class MemberImportProperties {
+    private int chunkSize = Member.SEQ_ALLOCATION_SIZE; // 1번에 저장할 행 수(JDBC batch 크기)
+    private int hashConcurrency = Math.max(1, Runtime.getRuntime().availableProcessors() / 2); // 해시 풀에 동시에 맡기는 최대 건수 - 로그인 해시용 스레드를 남겨 둠
+    private int hashRetries = 50; // 해시 풀 대기열 초과시 다시 시도 횟수, 넘으면 해당 행 실패
+    private Duration hashRetryDelay = Duration.ofMillis(100); // 다시 시도 간격
+    private int maxReportedFailures = 1_000; // 응답에 포함할 실패 행 최대 개수
+}
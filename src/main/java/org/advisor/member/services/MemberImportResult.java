@@ -0,0 +1,28 @@
+package org.advisor.member.services;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원 일괄 등록 결과
+ */
+@Data
+public class MemberImportResult {
+    private long total; // 전체 행 수
+    private long succeeded;
+    private long failed;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<Failure> failures = new ArrayList<>(); // 실패 행 - member.import.max-reported-failures 개까지
+
+    /**
+     * 실패 행
+     *
+     * @param line : 행 번호(1부터, CSV 헤더 포함)
+     * @param email
+     * @param errors : 에러 코드 - 예) Email.email, Complexity.password, Duplicated.email
+     */
+    public record Failure(long line, String email, List<String> errors) {}
+}
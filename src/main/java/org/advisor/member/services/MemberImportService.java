@@ -0,0 +1,356 @@
+package org.advisor.member.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.advisor.global.exceptions.ServiceUnavailableException;
+import org.advisor.global.security.PasswordHasher;
+import org.advisor.global.validators.PasswordPolicy;
+import org.advisor.member.caches.EmailFilter;
+import org.advisor.member.constants.Authority;
+import org.advisor.member.constants.DataFormat;
+import org.advisor.member.controllers.RequestImport;
+import org.advisor.member.entities.Authorities;
+import org.advisor.member.entities.Member;
+import org.advisor.member.entities.QMember;
+import org.hibernate.Session;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 회원 일괄 등록
+ *
+ * - NDJSON(1행 1회원 JSON) 또는 CSV(첫 행은 헤더)를 1행씩 읽어 처리, 전체를 메모리에 올리지 않음
+ * - member.import.chunk-size 행 단위로 가입 여부 확인 -> 비밀번호 병렬 해시 -> JDBC batch 저장
+ * - 비밀번호 해시는 로그인과 같은 해시 풀(PasswordHasher) 사용, 동시에 맡기는 건수는 member.import.hash-concurrency로 제한
+ * - 검증 실패, 저장 실패 행은 결과에 기록하고 나머지 행은 계속 처리
+ */
+@Lazy
+@Service
+@RequiredArgsConstructor
+@EnableConfigurationProperties(MemberImportProperties.class)
+public class MemberImportService {
+
+    private final MemberImportProperties properties;
+    private final EntityManager em;
+    private final JPAQueryFactory queryFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordHasher passwordHasher;
+    private final PasswordPolicy passwordPolicy;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmailFilter emailFilter;
+
+    public MemberImportResult process(InputStream in, DataFormat format) throws IOException {
+        MemberImportResult result = new MemberImportResult();
+        long start = System.nanoTime();
+
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        Set<String> chunkEmails = new HashSet<>();
+
+        ObjectReader reader = objectMapper.readerFor(RequestImport.class);
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+
+            String[] header = null;
+            long line = 0L;
+            String text;
+            while ((text = br.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+
+                if (format == DataFormat.CSV && header == null) { // CSV 헤더
+                    header = splitCsv(text).toArray(String[]::new);
+                    continue;
+                }
+
+                result.setTotal(result.getTotal() + 1);
+
+                RequestImport form;
+                try {
+                    form = format == DataFormat.CSV ? toForm(header, splitCsv(text)) : reader.readValue(text);
+                } catch (Exception e) {
+                    form = null;
+                }
+
+                if (form == null) { // 형식 오류, JSON null 행
+                    fail(result, line, null, List.of("Malformed"));
+                    continue;
+                }
+
+                List<String> errors = validate(form);
+                if (errors.isEmpty() && !chunkEmails.add(form.getEmail())) { // 같은 묶음 안에서 중복
+                    errors = List.of("Duplicated.email");
+                }
+
+                if (!errors.isEmpty()) {
+                    fail(result, line, form.getEmail(), errors);
+                    continue;
+                }
+
+                chunk.add(new Row(line, form));
+                if (chunk.size() >= chunkSize) {
+                    save(chunk, result);
+                    chunk.clear();
+                    chunkEmails.clear();
+                }
+            }
+
+            save(chunk, result);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        result.setElapsedMillis(elapsed / 1_000_000L);
+        result.setRowsPerSecond(elapsed == 0L ? 0 : result.getSucceeded() * 1_000_000_000.0 / elapsed);
+
+        return result;
+    }
+
+    /**
+     * 1행 검증
+     *
+     * @param form
+     * @return 에러 코드 목록, 통과시 빈 목록
+     */
+    private List<String> validate(RequestImport form) {
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<RequestImport> violation : validator.validate(form)) {
+            errors.add(violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName() + "." + violation.getPropertyPath());
+        }
+
+        if (StringUtils.hasText(form.getPassword()) && !passwordPolicy.isSatisfied(form.getPassword())) {
+            errors.add("Complexity.password");
+        }
+
+        return errors;
+    }
+
+    /**
+     * 묶음 저장
+     *  1. 이미 가입된 이메일 제외
+     *  2. 비밀번호 병렬 해시
+     *  3. 회원, 회원 권한 JDBC batch 저장 - 실패시 1행씩 다시 저장하여 실패 행만 기록
+     */
+    private void save(List<Row> chunk, MemberImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // 가입되었을 수 있는 이메일만 DB로 확인
+        List<String> candidates = chunk.stream().map(r -> r.form().getEmail()).filter(emailFilter::mightContain).toList();
+
+        QMember member = QMember.member;
+        Set<String> exists = candidates.isEmpty() ? Set.of() : new HashSet<>(queryFactory.select(member.email)
+                .from(member)
+                .where(member.email.in(candidates))
+                .fetch());
+
+        List<Row> candidateRows = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (exists.contains(row.form().getEmail())) {
+                fail(result, row.line(), row.form().getEmail(), List.of("Duplicated.email"));
+            } else {
+                candidateRows.add(row);
+            }
+        }
+
+        List<String> hashes = hash(candidateRows);
+        List<Row> rows = new ArrayList<>(candidateRows.size());
+        List<Member> members = new ArrayList<>(candidateRows.size());
+        for (int i = 0; i < candidateRows.size(); i++) {
+            Row row = candidateRows.get(i);
+            if (hashes.get(i) == null) { // 해시 풀 대기열 초과가 계속된 경우
+                fail(result, row.line(), row.form().getEmail(), List.of("Failure.import"));
+                continue;
+            }
+
+            rows.add(row);
+            members.add(toMember(row.form(), hashes.get(i)));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(members));
+            result.setSucceeded(result.getSucceeded() + members.size());
+        } catch (Exception e) {
+            for (int i = 0; i < members.size(); i++) {
+                Member item = members.get(i);
+                item.setSeq(null); // 실패한 트랜잭션에서 할당된 번호 제거
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(item)));
+                    result.setSucceeded(result.getSucceeded() + 1);
+                } catch (Exception ex) {
+                    fail(result, rows.get(i).line(), item.getEmail(), List.of("Failure.import"));
+                }
+            }
+        }
+    }
+
+    /**
+     * 회원, 회원 권한(USER) 저장 - 1번의 flush로 회원 insert batch, 권한 insert batch 실행
+     *
+     * @param members
+     */
+    private void insert(List<Member> members) {
+        em.unwrap(Session.class).setJdbcBatchSize(Math.max(1, properties.getChunkSize()));
+
+        members.forEach(em::persist);
+        members.forEach(m -> em.persist(new Authorities(m, Authority.USER)));
+
+        em.flush();
+        em.clear();
+
+        // 커밋 이후 회원 캐시 등 갱신
+        members.forEach(m -> eventPublisher.publishEvent(new MemberUpdatedEvent(m.getEmail())));
+    }
+
+    /**
+     * 비밀번호 해시 - hash-concurrency 건씩 해시 풀에 맡기고 끝나면 다음 건 처리, 로그인 해시 대기열을 독차지하지 않음
+     *  - 대기열 초과로 거부되면 hash-retry-delay 후 다시 시도, hash-retries번 넘게 거부되면 null
+     *
+     * @param rows
+     * @return 행 순서대로 해시값
+     */
+    private List<String> hash(List<Row> rows) {
+        int concurrency = Math.max(1, properties.getHashConcurrency());
+        List<String> hashes = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += concurrency) {
+            List<CompletableFuture<String>> futures = rows.subList(from, Math.min(rows.size(), from + concurrency)).stream()
+                    .map(row -> passwordHasher.encodeAsync(row.form().getPassword()))
+                    .toList();
+
+            for (int i = 0; i < futures.size(); i++) {
+                hashes.add(await(futures.get(i), rows.get(from + i).form().getPassword()));
+            }
+        }
+
+        return hashes;
+    }
+
+    private String await(CompletableFuture<String> future, String password) {
+        for (int retry = 0; ; retry++) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (!(e.getCause() instanceof ServiceUnavailableException) || retry >= properties.getHashRetries()) {
+                    return null;
+                }
+            }
+
+            try {
+                Thread.sleep(properties.getHashRetryDelay().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            future = passwordHasher.encodeAsync(password);
+        }
+    }
+
+    private Member toMember(RequestImport form, String hash) {
+        Member member = new Member();
+        member.setEmail(form.getEmail());
+        member.setName(form.getName());
+        member.setRequiredTerms1(form.isRequiredTerms1());
+        member.setRequiredTerms2(form.isRequiredTerms2());
+        member.setRequiredTerms3(form.isRequiredTerms3());
+
+        // 선택 약관 -> 약관 항목1||약관 항목2||...
+        List<String> optionalTerms = form.getOptionalTerms();
+        if (optionalTerms != null && !optionalTerms.isEmpty()) {
+            member.setOptionalTerms(String.join("||", optionalTerms));
+        }
+
+        member.setPassword(hash);
+        member.setCredentialChangedAt(LocalDateTime.now());
+
+        return member;
+    }
+
+    private void fail(MemberImportResult result, long line, String email, List<String> errors) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getFailures().size() < properties.getMaxReportedFailures()) {
+            result.getFailures().add(new MemberImportResult.Failure(line, email, errors));
+        }
+    }
+
+    /**
+     * CSV 행 -> 양식
+     *  - 컬럼명 : email, name, password, requiredTerms1, requiredTerms2, requiredTerms3, optionalTerms(항목1||항목2)
+     */
+    private RequestImport toForm(String[] header, List<String> values) {
+        RequestImport form = new RequestImport();
+        for (int i = 0; i < header.length && i < values.size(); i++) {
+            String value = values.get(i);
+            switch (header[i].trim()) {
+                case "email" -> form.setEmail(value);
+                case "name" -> form.setName(value);
+                case "password" -> form.setPassword(value);
+                case "requiredTerms1" -> form.setRequiredTerms1(Boolean.parseBoolean(value));
+                case "requiredTerms2" -> form.setRequiredTerms2(Boolean.parseBoolean(value));
+                case "requiredTerms3" -> form.setRequiredTerms3(Boolean.parseBoolean(value));
+                case "optionalTerms" -> form.setOptionalTerms(StringUtils.hasText(value) ? List.of(value.split("\\|\\|")) : null);
+                default -> {}
+            }
+        }
+
+        return form;
+    }
+
+    /**
+     * CSV 1행 분리 - 큰따옴표로 감싼 값(쉼표, "" 포함) 지원, 여러 줄에 걸친 값은 지원 X
+     */
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        sb.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    sb.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(sb.toString());
+                sb.setLength(0);
+            } else {
+                sb.append(c);
+            }
+        }
+        values.add(sb.toString());
+
+        return values;
+    }
+
+    private record Row(long line, RequestImport form) {}
+}
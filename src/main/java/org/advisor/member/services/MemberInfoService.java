@@ -1,10 +1,13 @@
 package org.advisor.member.services;
 
 import org.advisor.member.MemberInfo;
-import org.advisor.member.constants.Authority;
-import org.advisor.member.entities.Authorities;
+import org.advisor.member.MemberMetrics;
+import org.advisor.member.caches.EmailFilter;
+import org.advisor.member.caches.MemberCache;
+import org.advisor.member.caches.MemberSnapshot;
 import org.advisor.member.entities.Member;
 import org.advisor.member.repositories.MemberRepository;
+import org.advisor.member.throttle.LoginThrottle;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -27,30 +30,46 @@ public class MemberInfoService implements UserDetailsService {
     private final JPAQueryFactory queryFactory;
     private final HttpServletRequest request;
     private final ModelMapper modelMapper;
+    private final MemberCache memberCache;
+    private final MemberMetrics metrics;
+    private final LoginThrottle loginThrottle;
+    private final EmailFilter emailFilter;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Member member = memberRepository.findByEmail(username).orElseThrow(() -> new UsernameNotFoundException(username));
+        // 가입되지 않은 이메일 - 캐시, DB 조회 X
+        if (!emailFilter.mightContain(username)) {
+            throw new UsernameNotFoundException(username);
+        }
 
+        // 캐시에 없는 경우만 DB 조회
+        long start = System.nanoTime();
+        boolean[] loaded = { false };
+        MemberSnapshot snapshot = memberCache.get(username, email -> {
+            loaded[0] = true;
+            return load(email);
+        });
+        metrics.lookup(System.nanoTime() - start, !loaded[0]);
 
-        List<Authorities> items = member.getAuthorities();
-        if (items == null) {
-            Authorities auth = new Authorities();
-            auth.setMember(member);
-            auth.setAuthority(Authority.USER);
-            items = List.of(auth);
+        if (snapshot == null) {
+            throw new UsernameNotFoundException(username);
         }
 
+        Member member = snapshot.toMember();
 
-        List<SimpleGrantedAuthority> authorities = items.stream().map(a -> new SimpleGrantedAuthority(a.getAuthority().name())).toList();
+        List<SimpleGrantedAuthority> authorities = snapshot.authorities().stream().map(a -> new SimpleGrantedAuthority(a.name())).toList();
 
         // 추가 정보 처리
         addInfo(member);
 
         return MemberInfo.builder()
+                .seq(member.getSeq())
                 .email(member.getEmail())
+                .name(member.getName())
                 .password(member.getPassword())
+                .credentialChangedAt(member.getCredentialChangedAt())
                 .member(member)
+                .locked(loginThrottle.isLocked(member.getEmail()))
                 .authorities(authorities)
                 .build();
     }
@@ -60,6 +79,15 @@ public class MemberInfoService implements UserDetailsService {
         return memberInfo.getMember();
     }
 
+    /**
+     * DB 조회 후 스냅샷으로 변환
+     *
+     * @param email
+     * @return 미가입 회원인 경우 null
+     */
+    private MemberSnapshot load(String email) {
+        return memberRepository.findByEmail(email).map(MemberSnapshot::of).orElse(null);
+    }
 
     /**
      * 추가 정보 처리
@@ -68,4 +96,4 @@ public class MemberInfoService implements UserDetailsService {
     public void addInfo(Member member) {
 
     }
-}
\ No newline at end of file
+}
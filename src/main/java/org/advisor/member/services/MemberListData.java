@@ -0,0 +1,11 @@
+package org.advisor.member.services;
+
+import java.util.List;
+
+/**
+ * 회원 목록(관리자)
+ *
+ * @param items
+ * @param nextSeq : 다음 목록 조회시 lastSeq로 전달할 번호, 마지막 목록이면 null
+ */
+public record MemberListData(List<MemberListItem> items, Long nextSeq) {}
@@ -0,0 +1,29 @@
+package org.advisor.member.services;
+
+import org.advisor.member.constants.Authority;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 회원 목록(관리자) - 1행
+ */
+public record MemberListItem(
+        Long seq,
+        String email,
+        String name,
+        boolean requiredTerms1,
+        boolean requiredTerms2,
+        boolean requiredTerms3,
+        String optionalTerms,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt,
+        LocalDateTime deletedAt,
+        List<Authority> authorities
+) {
+
+    public static MemberListItem of(MemberSearchRow row, List<Authority> authorities) {
+        return new MemberListItem(row.seq(), row.email(), row.name(), row.requiredTerms1(), row.requiredTerms2(),
+                row.requiredTerms3(), row.optionalTerms(), row.createdAt(), row.modifiedAt(), row.deletedAt(), authorities);
+    }
+}
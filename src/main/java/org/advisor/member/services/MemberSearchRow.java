@@ -0,0 +1,19 @@
+package org.advisor.member.services;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 목록 조회(관리자) - 1행, 권한은 목록 단위로 따로 조회
+ */
+public record MemberSearchRow(
+        Long seq,
+        String email,
+        String name,
+        boolean requiredTerms1,
+        boolean requiredTerms2,
+        boolean requiredTerms3,
+        String optionalTerms,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt,
+        LocalDateTime deletedAt
+) {}
@@ -0,0 +1,153 @@
+package org.advisor.member.services;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.advisor.member.constants.Authority;
+import org.advisor.member.controllers.MemberSearch;
+import org.advisor.member.entities.QAuthorities;
+import org.advisor.member.entities.QMember;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+
+/**
+ * 회원 목록 조회(관리자)
+ *
+ * - 회원 번호(seq) 역순 keyset 페이징 - lastSeq보다 작은 번호부터 limit 건, OFFSET 사용 X
+ * - 회원은 행 단위(DTO)로 조회하고 권한은 목록 1번당 1번의 IN 조회로 채움, authorities 컬렉션 지연 로딩 X
+ * - 권장 인덱스는 Member 엔티티의 @Table(indexes = ...) 참고
+ */
+@Lazy
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberSearchService {
+
+    public static final int MAX_LIMIT = 100;
+
+    private final JPAQueryFactory queryFactory;
+
+    public MemberListData getList(MemberSearch search) {
+        int limit = Math.min(Math.max(1, search.getLimit()), MAX_LIMIT);
+
+        QMember member = QMember.member;
+        BooleanBuilder andBuilder = new BooleanBuilder();
+
+        /* 검색 조건 처리 S */
+        if (search.getLastSeq() != null) {
+            andBuilder.and(member.seq.lt(search.getLastSeq()));
+        }
+
+        // 이메일, 회원명 - 앞부분 일치(인덱스 사용 가능)
+        if (StringUtils.hasText(search.getEmail())) {
+            andBuilder.and(member.email.startsWith(search.getEmail().trim()));
+        }
+
+        if (StringUtils.hasText(search.getName())) {
+            andBuilder.and(member.name.startsWith(search.getName().trim()));
+        }
+
+        // 회원 권한 - 회원별 권한 PK(member_seq, authority)로 확인
+        if (search.getAuthority() != null) {
+            QAuthorities authorities = QAuthorities.authorities;
+            andBuilder.and(JPAExpressions.selectOne()
+                    .from(authorities)
+                    .where(authorities.member.seq.eq(member.seq), authorities.authority.eq(search.getAuthority()))
+                    .exists());
+        }
+
+        // 가입일, 탈퇴일 - 종료일은 해당일 포함
+        if (search.getCreatedFrom() != null) {
+            andBuilder.and(member.createdAt.goe(search.getCreatedFrom().atStartOfDay()));
+        }
+
+        if (search.getCreatedTo() != null) {
+            andBuilder.and(member.createdAt.lt(search.getCreatedTo().plusDays(1L).atStartOfDay()));
+        }
+
+        if (search.getDeletedFrom() != null) {
+            andBuilder.and(member.deletedAt.goe(search.getDeletedFrom().atStartOfDay()));
+        }
+
+        if (search.getDeletedTo() != null) {
+            andBuilder.and(member.deletedAt.lt(search.getDeletedTo().plusDays(1L).atStartOfDay()));
+        }
+
+        // 약관 동의 여부
+        if (search.getRequiredTerms1() != null) {
+            andBuilder.and(member.requiredTerms1.eq(search.getRequiredTerms1()));
+        }
+
+        if (search.getRequiredTerms2() != null) {
+            andBuilder.and(member.requiredTerms2.eq(search.getRequiredTerms2()));
+        }
+
+        if (search.getRequiredTerms3() != null) {
+            andBuilder.and(member.requiredTerms3.eq(search.getRequiredTerms3()));
+        }
+        /* 검색 조건 처리 E */
+
+        // 다음 목록 여부 확인을 위해 1건 더 조회
+        List<MemberSearchRow> rows = queryFactory.select(Projections.constructor(MemberSearchRow.class,
+                        member.seq,
+                        member.email,
+                        member.name,
+                        member.requiredTerms1,
+                        member.requiredTerms2,
+                        member.requiredTerms3,
+                        member.optionalTerms,
+                        member.createdAt,
+                        member.modifiedAt,
+                        member.deletedAt))
+                .from(member)
+                .where(andBuilder)
+                .orderBy(member.seq.desc())
+                .limit(limit + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) {
+            rows = rows.subList(0, limit);
+        }
+
+        Map<Long, List<Authority>> authorities = getAuthorities(rows.stream().map(MemberSearchRow::seq).toList());
+        List<MemberListItem> items = rows.stream()
+                .map(row -> MemberListItem.of(row, authorities.getOrDefault(row.seq(), List.of())))
+                .toList();
+
+        return new MemberListData(items, hasNext ? rows.get(rows.size() - 1).seq() : null);
+    }
+
+    /**
+     * 목록의 회원 권한 - 1번의 IN 조회
+     *
+     * @param seqs
+     * @return 회원 번호별 권한 목록
+     */
+    private Map<Long, List<Authority>> getAuthorities(List<Long> seqs) {
+        if (seqs.isEmpty()) {
+            return Map.of();
+        }
+
+        QAuthorities authorities = QAuthorities.authorities;
+        List<Tuple> items = queryFactory.select(authorities.member.seq, authorities.authority)
+                .from(authorities)
+                .where(authorities.member.seq.in(seqs))
+                .fetch();
+
+        Map<Long, List<Authority>> data = new HashMap<>();
+        for (Tuple item : items) {
+            data.computeIfAbsent(item.get(authorities.member.seq), k -> new ArrayList<>(2))
+                    .add(item.get(authorities.authority));
+        }
+
+        return data;
+    }
+}
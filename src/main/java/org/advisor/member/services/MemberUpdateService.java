@@ -1,5 +1,7 @@
 package org.advisor.member.services;
 
+import org.advisor.global.security.PasswordHasher;
+import org.advisor.member.MemberMetrics;
 import org.advisor.member.constants.Authority;
 import org.advisor.member.controllers.RequestJoin;
 import org.advisor.member.entities.Authorities;
@@ -7,15 +9,18 @@ import org.advisor.member.entities.Member;
 import org.advisor.member.entities.QAuthorities;
 import org.advisor.member.repositories.AuthoritiesRepository;
 import org.advisor.member.repositories.MemberRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @Lazy // 지연로딩 - 최초로 빈을 사용할때 생성
 @Service
@@ -25,8 +30,11 @@ public class MemberUpdateService {
 
     private final MemberRepository memberRepository;
     private final AuthoritiesRepository authoritiesRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager em;
+    private final MemberMetrics metrics;
 
     /**
      * 커맨드 객체의 타입에 따라서 RequestJoin이면 회원 가입 처리
@@ -34,6 +42,8 @@ public class MemberUpdateService {
      * @param form
      */
     public void process(RequestJoin form) {
+        long start = System.nanoTime();
+
         // 커맨드 객체 -> 엔티티 객체 데이터 옮기기
         Member member = modelMapper.map(form, Member.class);
 
@@ -44,47 +54,56 @@ public class MemberUpdateService {
         }
 
         // 비밀번호 해시화 - BCrypt
-        String hash = passwordEncoder.encode(form.getPassword());
+        String hash = passwordHasher.encode(form.getPassword());
         member.setPassword(hash);
         member.setCredentialChangedAt(LocalDateTime.now());
 
-        // 회원 권한
-        Authorities auth = new Authorities();
-        auth.setMember(member);
-        auth.setAuthority(Authority.USER);  // 회원 권한이 없는 경우 - 회원 가입시, 기본 권한 USER
+        // 회원 권한 - 회원 가입시, 기본 권한 USER
+        save(member, EnumSet.of(Authority.USER)); // 회원 저장 처리
 
-        save(member, List.of(auth)); // 회원 저장 처리
+        metrics.joined(System.nanoTime() - start);
     }
 
 
     /**
      * 회원정보 추가 또는 수정 처리
      *
+     * @param member
+     * @param authorities : 변경할 권한 목록, null이면 권한은 변경하지 않음
      */
-    private void save(Member member, List<Authorities> authorities) {
+    private void save(Member member, Set<Authority> authorities) {
+        boolean isNew = member.getSeq() == null;
 
-        memberRepository.saveAndFlush(member);
+        member = memberRepository.save(member); // 수정시 영속 상태의 엔티티로 교체
 
         // 회원 권한 업데이트 처리 S
-
         if (authorities != null) {
             /**
-             * 기존 권한을 삭제하고 다시 등록
+             * 기존 권한과 비교하여 추가된 권한만 등록, 제외된 권한만 삭제
+             * 변경이 없으면 DB 작업 X
              */
-
-            QAuthorities qAuthorities = QAuthorities.authorities;
-            List<Authorities> items = (List<Authorities>) authoritiesRepository.findAll(qAuthorities.member.eq(member));
-            if (items != null) {
-                authoritiesRepository.deleteAll(items);
-                authoritiesRepository.flush();
+            List<Authorities> items = isNew ? List.of() : (List<Authorities>) authoritiesRepository.findAll(QAuthorities.authorities.member.eq(member));
+
+            Set<Authority> current = EnumSet.noneOf(Authority.class);
+            for (Authorities item : items) {
+                if (authorities.contains(item.getAuthority())) {
+                    current.add(item.getAuthority());
+                } else {
+                    em.remove(item);
+                }
             }
 
-
-            authoritiesRepository.saveAllAndFlush(authorities);
+            for (Authority authority : authorities) {
+                if (!current.contains(authority)) {
+                    em.persist(new Authorities(member, authority)); // 복합키 엔티티 - save()는 merge 전 select 발생하므로 persist
+                }
+            }
         }
-
         // 회원 권한 업데이트 처리 E
-    }
 
+        em.flush(); // 회원, 권한 변경을 1번에 반영
 
+        // 커밋 이후 회원 캐시 갱신
+        eventPublisher.publishEvent(new MemberUpdatedEvent(member.getEmail()));
+    }
 }
\ No newline at end of file
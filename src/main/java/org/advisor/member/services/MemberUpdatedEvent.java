@@ -0,0 +1,10 @@
+package org.advisor.member.services;
+
+/**
+ * 회원 정보(비밀번호, 권한 등) 변경 이벤트
+ *  - 트랜잭션 커밋 이후 캐시 갱신 등에 사용
+ *
+ * @param email : 변경된 회원 이메일
+ */
+public record MemberUpdatedEvent(String email) {
+}
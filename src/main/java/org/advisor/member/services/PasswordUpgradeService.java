@@ -0,0 +1,62 @@
+package org.advisor.member.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.advisor.global.security.PasswordHasher;
+import org.advisor.member.MemberInfo;
+import org.advisor.member.repositories.MemberRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 비밀번호 해시 재생성
+ *
+ * 로그인 성공 후 저장된 해시가 현재 설정(해시 방식, 강도)보다 낮은 경우
+ * 입력한 비밀번호로 해시를 다시 만들어 저장 - 로그인 응답은 기다리지 않음
+ *  - 해시는 PasswordHasher 스레드, DB 저장은 @Async와 같은 applicationTaskExecutor에서 처리(해시 스레드가 DB 응답을 기다리지 않음)
+ */
+@Slf4j
+@Lazy
+@Service
+public class PasswordUpgradeService {
+
+    private final PasswordHasher passwordHasher;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor executor;
+
+    public PasswordUpgradeService(PasswordHasher passwordHasher, MemberRepository memberRepository, TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor) {
+        this.passwordHasher = passwordHasher;
+        this.memberRepository = memberRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.executor = executor;
+    }
+
+    public void upgradeIfNeeded(MemberInfo memberInfo, String rawPassword) {
+        String encodedPassword = memberInfo.getPassword();
+        if (encodedPassword == null || !passwordHasher.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+
+        passwordHasher.encodeAsync(rawPassword)
+                .thenAcceptAsync(hash -> transactionTemplate.executeWithoutResult(status -> {
+                    if (memberRepository.updatePassword(memberInfo.getSeq(), encodedPassword, hash) > 0) {
+                        // 커밋 이후 회원 캐시 갱신
+                        eventPublisher.publishEvent(new MemberUpdatedEvent(memberInfo.getEmail()));
+                    }
+                }), executor)
+                .exceptionally(e -> { // 대기열 초과 등 - 다음 로그인시 다시 시도
+                    log.warn("Password hash upgrade failed for member {}: {}", memberInfo.getSeq(), e.getMessage());
+                    return null;
+                });
+    }
+}
@@ -0,0 +1,175 @@
+package org.advisor.member.throttle;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.advisor.global.exceptions.TooManyRequestsException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 로그인 시도 제한
+ *
+ * - 접속 IP별 : 로그인 시도마다 1개 사용
+ * - 이메일별 : 로그인 실패마다 1개 사용, 모두 사용하면 회복될 때까지 잠금(MemberInfo.isAccountNonLocked), 로그인 성공시 초기화
+ * - 제한에 걸린 요청은 회원 조회, 비밀번호 비교 없이 429 응답
+ * - 버킷은 최대 개수가 정해진 Caffeine 캐시에 보관, idle-timeout 동안 시도가 없으면 삭제(삭제된 버킷 = 가득 찬 버킷)
+ *
+ * 게이트웨이 뒤에서는 접속 IP가 모두 게이트웨이 주소이므로 clientIp()로 X-Forwarded-For의 실제 접속 IP 사용
+ *  - trusted-proxies 범위에서 온 요청만 헤더를 읽음, 외부에서 직접 보낸 헤더는 무시
+ */
+@Component
+@EnableConfigurationProperties(LoginThrottleProperties.class)
+public class LoginThrottle {
+
+    private final LoginThrottleProperties properties;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<String, TokenBucket> emailBuckets;
+    private final Counter ipThrottled;
+    private final Counter emailThrottled;
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public LoginThrottle(LoginThrottleProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.trustedProxies = properties.getTrustedProxies().stream().map(IpAddressMatcher::new).toList();
+        this.ipBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+        this.emailBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+
+        this.ipThrottled = Counter.builder("member.login.throttled").tag("key", "ip").register(registry);
+        this.emailThrottled = Counter.builder("member.login.throttled").tag("key", "email").register(registry);
+    }
+
+    /**
+     * IP별 제한에 사용할 접속 IP
+     *  - 신뢰하는 프록시에서 온 요청이면 X-Forwarded-For를 오른쪽부터 읽어 처음 나오는 신뢰하지 않는 주소
+     *  - 그 외에는 getRemoteAddr()
+     *
+     * @param request
+     * @return
+     */
+    public String clientIp(HttpServletRequest request) {
+        String ip = request.getRemoteAddr();
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (!StringUtils.hasText(forwarded) || !isTrustedProxy(ip)) {
+            return ip;
+        }
+
+        String[] addresses = forwarded.split(",");
+        for (int i = addresses.length - 1; i >= 0; i--) {
+            String address = addresses[i].trim();
+            if (address.isEmpty()) {
+                continue;
+            }
+
+            ip = address;
+            if (!isTrustedProxy(address)) {
+                break;
+            }
+        }
+
+        return ip;
+    }
+
+    private boolean isTrustedProxy(String ip) {
+        try {
+            for (IpAddressMatcher matcher : trustedProxies) {
+                if (matcher.matches(ip)) {
+                    return true;
+                }
+            }
+        } catch (IllegalArgumentException e) { // IP 형식이 아닌 값
+            return false;
+        }
+
+        return false;
+    }
+
+    /**
+     * 로그인 시도 가능 여부 확인 - 회원 조회, 비밀번호 비교 전
+     *
+     * @param ip
+     * @param email
+     * @throws TooManyRequestsException 잠긴 이메일이거나 IP별 시도 횟수 초과
+     */
+    public void check(String ip, String email) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+
+        TokenBucket emailBucket = email == null ? null : emailBuckets.getIfPresent(normalize(email));
+        if (emailBucket != null && !emailBucket.hasToken(now)) {
+            emailThrottled.increment();
+            throw new TooManyRequestsException(emailBucket.retryAfter(now));
+        }
+
+        if (ip != null) {
+            LoginThrottleProperties.Limit limit = properties.getIp();
+            TokenBucket ipBucket = ipBuckets.get(ip, k -> new TokenBucket(limit.getCapacity(), limit.getRefillPerMinute(), now));
+            if (!ipBucket.tryConsume(now)) {
+                ipThrottled.increment();
+                throw new TooManyRequestsException(ipBucket.retryAfter(now));
+            }
+        }
+    }
+
+    /**
+     * 로그인 실패
+     *
+     * @param email
+     */
+    public void failed(String email) {
+        if (!properties.isEnabled() || email == null) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        LoginThrottleProperties.Limit limit = properties.getEmail();
+        emailBuckets.get(normalize(email), k -> new TokenBucket(limit.getCapacity(), limit.getRefillPerMinute(), now)).tryConsume(now);
+    }
+
+    /**
+     * 로그인 성공 - 이메일별 실패 횟수 초기화
+     *
+     * @param email
+     */
+    public void succeeded(String email) {
+        if (email != null) {
+            emailBuckets.invalidate(normalize(email));
+        }
+    }
+
+    /**
+     * 로그인 실패가 누적되어 일시적으로 잠긴 이메일인지
+     *
+     * @param email
+     * @return
+     */
+    public boolean isLocked(String email) {
+        if (!properties.isEnabled() || email == null) {
+            return false;
+        }
+
+        TokenBucket bucket = emailBuckets.getIfPresent(normalize(email));
+
+        return bucket != null && !bucket.hasToken(System.nanoTime());
+    }
+
+    private String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
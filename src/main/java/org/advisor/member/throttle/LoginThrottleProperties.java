@@ -0,0 +1,32 @@
+package org.advisor.member.throttle;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "member.login.throttle")
+public class LoginThrottleProperties {
+    private boolean enabled = true;
+    private Limit ip = new Limit(30, 30); // 접속 IP별 로그인 시도 - 분당 30회, 연속 30회
+    private Limit email = new Limit(5, 5); // 이메일별 로그인 실패 - 분당 5회, 연속 5회
+    private long maxKeys = 100_000L; // 보관할 최대 IP, 이메일 수
+    private Duration idleTimeout = Duration.ofMinutes(10L); // 이 시간 동안 시도가 없으면 삭제
+    // X-Forwarded-For를 신뢰할 프록시(게이트웨이) 주소 범위 - 이 범위에서 온 요청만 헤더의 접속 IP 사용
+    private List<String> trustedProxies = List.of("10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16", "127.0.0.0/8", "::1");
+
+    @Data
+    public static class Limit {
+        private int capacity; // 연속으로 허용하는 횟수
+        private int refillPerMinute; // 분당 회복되는 횟수
+
+        public Limit() {}
+
+        public Limit(int capacity, int refillPerMinute) {
+            this.capacity = capacity;
+            this.refillPerMinute = refillPerMinute;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.advisor.member.throttle;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 토큰 버킷 - 잠금 없이 CAS로 갱신
+ *  - 최대 capacity개, 분당 refillPerMinute개씩 회복
+ */
+class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNanos;
+    private final AtomicReference<State> state;
+
+    TokenBucket(int capacity, int refillPerMinute, long now) {
+        this.capacity = capacity;
+        this.refillPerNanos = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1L);
+        this.state = new AtomicReference<>(new State(capacity, now));
+    }
+
+    /**
+     * 1개 사용
+     *
+     * @param now : System.nanoTime()
+     * @return 남은 토큰이 없으면 false
+     */
+    boolean tryConsume(long now) {
+        while (true) {
+            State current = state.get();
+            double tokens = available(current, now);
+            if (tokens < 1.0) {
+                return false;
+            }
+
+            if (state.compareAndSet(current, new State(tokens - 1.0, now))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 1개 이상 남아 있는지
+     */
+    boolean hasToken(long now) {
+        return available(state.get(), now) >= 1.0;
+    }
+
+    /**
+     * 다음 토큰까지 남은 시간(초)
+     */
+    long retryAfter(long now) {
+        double tokens = available(state.get(), now);
+        if (tokens >= 1.0 || refillPerNanos <= 0.0) {
+            return tokens >= 1.0 ? 0L : TimeUnit.MINUTES.toSeconds(1L);
+        }
+
+        return Math.max(1L, (long) Math.ceil((1.0 - tokens) / refillPerNanos / TimeUnit.SECONDS.toNanos(1L)));
+    }
+
+    private double available(State current, long now) {
+        return Math.min(capacity, current.tokens() + Math.max(0L, now - current.updatedAt()) * refillPerNanos);
+    }
+
+    private record State(double tokens, long updatedAt) {}
+}
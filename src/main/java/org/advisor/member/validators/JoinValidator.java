@@ -1,6 +1,6 @@
 package org.advisor.member.validators;
 
-import org.advisor.global.validators.PasswordValidator;
+import org.advisor.global.validators.PasswordPolicy;
 import org.advisor.member.controllers.RequestJoin;
 import org.advisor.member.repositories.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,9 +12,10 @@ import org.springframework.validation.Validator;
 @Lazy
 @Component
 @RequiredArgsConstructor
-public class JoinValidator implements Validator, PasswordValidator {
+public class JoinValidator implements Validator {
 
     private final MemberRepository memberRepository;
+    private final PasswordPolicy passwordPolicy;
 
     @Override
     public boolean supports(Class<?> clazz) {
@@ -38,14 +39,14 @@ public class JoinValidator implements Validator, PasswordValidator {
         String password = form.getPassword();
         String confirmPassword = form.getConfirmPassword();
 
-        // 1. 이메일 중복 여부 체크
+        // 1. 이메일 중복 여부 체크 - 가입 직후 다른 인스턴스의 필터에 없을 수 있으므로 항상 DB로 확인
         if (memberRepository.exists(email)) {
             errors.rejectValue("email", "Duplicated");
         }
 
 
         // 2. 비밀번호 복잡성 S
-        if (!alphaCheck(password, false) || !numberCheck(password) || !specialCharsCheck(password)) {
+        if (!passwordPolicy.isSatisfied(password)) {
             errors.rejectValue("password", "Complexity");
         }
         // 2. 비밀번호 복잡성 E
@@ -1,11 +1,16 @@
 package org.advisor.member.validators;
 
+import jakarta.servlet.http.HttpServletRequest;
+import org.advisor.global.security.PasswordHasher;
+import org.advisor.member.MemberInfo;
+import org.advisor.member.MemberMetrics;
 import org.advisor.member.controllers.RequestLogin;
-import org.advisor.member.entities.Member;
-import org.advisor.member.repositories.MemberRepository;
+import org.advisor.member.services.MemberInfoService;
+import org.advisor.member.services.PasswordUpgradeService;
+import org.advisor.member.throttle.LoginThrottle;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.Errors;
 import org.springframework.validation.Validator;
@@ -15,8 +20,17 @@ import org.springframework.validation.Validator;
 @RequiredArgsConstructor
 public class LoginValidator implements Validator {
 
-    private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    /**
+     * 검증에 성공한 회원 정보 - 요청 속성으로 토큰 발급까지 전달(회원 재조회 방지)
+     */
+    public static final String MEMBER_INFO = LoginValidator.class.getName() + ".MEMBER_INFO";
+
+    private final MemberInfoService infoService;
+    private final PasswordHasher passwordHasher;
+    private final PasswordUpgradeService passwordUpgradeService;
+    private final HttpServletRequest request;
+    private final MemberMetrics metrics;
+    private final LoginThrottle loginThrottle;
 
     @Override
     public boolean supports(Class<?> clazz) {
@@ -37,15 +51,31 @@ public class LoginValidator implements Validator {
         RequestLogin form = (RequestLogin) target;
         String email = form.getEmail();
         String password = form.getPassword();
-        Member member = memberRepository.findByEmail(email).orElse(null);
-        if (member == null) {
+        long start = System.nanoTime();
+        MemberInfo memberInfo = null;
+        try {
+            memberInfo = (MemberInfo) infoService.loadUserByUsername(email);
+        } catch (UsernameNotFoundException e) {
             errors.reject("Mismatch.login");
+            loginThrottle.failed(email);
+            metrics.login(System.nanoTime() - start, "not_found");
             return;
         }
 
         //  비밀번호가 일치하지 않는 경우
-        if (!passwordEncoder.matches(password, member.getPassword())) {
+        if (!passwordHasher.matches(password, memberInfo.getPassword())) {
             errors.reject("Mismatch.login");
+            loginThrottle.failed(email);
+            metrics.login(System.nanoTime() - start, "mismatch");
+            return;
         }
+
+        loginThrottle.succeeded(email);
+        metrics.login(System.nanoTime() - start, "success");
+
+        // 이전 설정으로 생성된 해시는 백그라운드에서 다시 생성
+        passwordUpgradeService.upgradeIfNeeded(memberInfo, password);
+
+        request.setAttribute(MEMBER_INFO, memberInfo);
     }
 }
@@ -0,0 +1,51 @@
+package org.advisor.benchmarks;
+
+import org.advisor.member.constants.DataFormat;
+import org.advisor.member.services.MemberImportResult;
+import org.advisor.member.services.MemberImportService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 회원 일괄 등록 처리 속도(행/초) 측정 - H2
+ *
+ * - 해시 비용이 측정을 지배하지 않도록 bcrypt 강도 4 사용
+ * - 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {"password.hashing.bcrypt-strength=4", "member.cache.enabled=false"})
+@ActiveProfiles({"default", "test"})
+public class MemberImportBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+
+    @Autowired
+    private MemberImportService importService;
+
+    @Test
+    void importTest() throws Exception {
+        StringBuilder sb = new StringBuilder(ROWS * 160);
+        for (int i = 0; i < ROWS; i++) {
+            sb.append(String.format("{\"email\":\"import%06d@test.org\",\"name\":\"사용자%d\",\"password\":\"_aA123456\",\"requiredTerms1\":true,\"requiredTerms2\":true,\"requiredTerms3\":true}\n", i, i));
+        }
+
+        // 실패 행 기록 확인용 - 형식 오류, 중복
+        sb.append("{\"email\":\"wrong\"}\n");
+        sb.append("{\"email\":\"import000000@test.org\",\"name\":\"중복\",\"password\":\"_aA123456\",\"requiredTerms1\":true,\"requiredTerms2\":true,\"requiredTerms3\":true}\n");
+
+        MemberImportResult result = importService.process(new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8)), DataFormat.NDJSON);
+
+        assertEquals(ROWS, result.getSucceeded());
+        assertEquals(2, result.getFailed());
+
+        System.out.printf("{\"mode\":\"import\",\"rows\":%d,\"elapsedMs\":%d,\"rowsPerSecond\":%.1f}%n", result.getSucceeded(), result.getElapsedMillis(), result.getRowsPerSecond());
+    }
+}
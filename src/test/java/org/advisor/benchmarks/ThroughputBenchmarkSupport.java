@@ -0,0 +1,114 @@
+package org.advisor.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.advisor.member.controllers.RequestJoin;
+import org.advisor.member.controllers.RequestLogin;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 요청 처리량, p99 응답 시간 측정
+ *
+ * - 회원 캐시를 끄고 로그인 회원 정보 조회(GET /)를 동시에 요청하여 요청마다 DB(H2) 조회 발생
+ * - 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+public abstract class ThroughputBenchmarkSupport {
+
+    private static final int CLIENTS = 200; // 동시 요청 수
+    private static final int REQUESTS = 20_000; // 전체 요청 수
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper om;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    protected abstract String mode();
+
+    @Test
+    void throughputTest() throws Exception {
+        String token = login();
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+
+        // 예열
+        for (int i = 0; i < 500; i++) {
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        }
+
+        long[] latencies = new long[REQUESTS];
+        List<Future<Integer>> results = new ArrayList<>(REQUESTS);
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(CLIENTS)) {
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                results.add(executor.submit(() -> {
+                    long begin = System.nanoTime();
+                    int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    latencies[index] = System.nanoTime() - begin;
+                    return status;
+                }));
+            }
+
+            for (Future<Integer> result : results) {
+                assertEquals(200, result.get());
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Arrays.sort(latencies);
+        double p99 = latencies[(int) Math.ceil(REQUESTS * 0.99) - 1] / 1_000_000.0;
+
+        System.out.printf("{\"mode\":\"%s\",\"requests\":%d,\"clients\":%d,\"throughput\":%.1f,\"p99Ms\":%.2f}%n",
+                mode(), REQUESTS, CLIENTS, REQUESTS / seconds, p99);
+    }
+
+    private String login() throws Exception {
+        RequestJoin form = new RequestJoin();
+        form.setEmail("bench01@test.org");
+        form.setName("벤치마크01");
+        form.setPassword("_aA123456");
+        form.setConfirmPassword(form.getPassword());
+        form.setRequiredTerms1(true);
+        form.setRequiredTerms2(true);
+        form.setRequiredTerms3(true);
+        post("/join", om.writeValueAsString(form));
+
+        RequestLogin loginForm = new RequestLogin();
+        loginForm.setEmail(form.getEmail());
+        loginForm.setPassword(form.getPassword());
+        String body = post("/login", om.writeValueAsString(loginForm));
+
+        return om.readTree(body).get("data").asText();
+    }
+
+    private String post(String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        return client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+}
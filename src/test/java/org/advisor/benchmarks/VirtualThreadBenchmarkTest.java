@@ -0,0 +1,15 @@
+package org.advisor.benchmarks;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.threads.virtual.enabled=true", "member.cache.enabled=false"})
+@ActiveProfiles({"default", "test", "jwt"})
+public class VirtualThreadBenchmarkTest extends ThroughputBenchmarkSupport {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,39 @@
+package org.advisor.caches;
+
+import org.advisor.member.caches.BloomFilter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BloomFilterTest {
+
+    private static final int COUNT = 1_000_000;
+
+    /**
+     * 추가한 이메일은 항상 true, 추가하지 않은 이메일의 오탐률, 회원 100만명당 메모리 사용량
+     */
+    @Test
+    @Tag("benchmark")
+    void falsePositiveRateTest() {
+        BloomFilter filter = new BloomFilter(COUNT, 0.01);
+        for (int i = 0; i < COUNT; i++) {
+            filter.put("user" + i + "@test.org");
+        }
+
+        for (int i = 0; i < COUNT; i++) {
+            assertTrue(filter.mightContain("user" + i + "@test.org"));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < COUNT; i++) {
+            if (filter.mightContain("guest" + i + "@test.org")) {
+                falsePositives++;
+            }
+        }
+
+        double fpp = falsePositives / (double) COUNT;
+        assertTrue(fpp < 0.015, "fpp : " + fpp);
+        assertTrue(filter.bitSize() / 8 < 1_250_000L); // 100만명당 약 1.14MiB
+    }
+}
@@ -0,0 +1,143 @@
+package org.advisor.caches;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.advisor.member.caches.*;
+import org.advisor.member.services.MemberUpdatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.simple.SimpleDiscoveryClient;
+import org.springframework.cloud.client.discovery.simple.SimpleDiscoveryProperties;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 인스턴스간 캐시 무효화 테스트
+ *  - 같은 JVM 안에 3개 인스턴스를 구성하고, 등록 정보는 SimpleDiscoveryClient로 대체
+ *  - HTTP 요청은 포트 번호로 해당 인스턴스에 직접 전달
+ */
+public class MemberCacheBroadcasterTest {
+
+    private static final String SERVICE_ID = "member-service";
+
+    private final ObjectMapper om = new ObjectMapper();
+    private final List<Node> nodes = new ArrayList<>();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @BeforeEach
+    void init() {
+        List<DefaultServiceInstance> instances = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            instances.add(new DefaultServiceInstance("node" + i, SERVICE_ID, "localhost", 10000 + i, false));
+        }
+
+        SimpleDiscoveryProperties discoveryProperties = new SimpleDiscoveryProperties();
+        discoveryProperties.setInstances(Map.of(SERVICE_ID, instances));
+        SimpleDiscoveryClient discoveryClient = new SimpleDiscoveryClient(discoveryProperties);
+
+        RestTemplateBuilder restTemplateBuilder = new RestTemplateBuilder().additionalInterceptors((req, body, execution) -> {
+            requests.incrementAndGet();
+            assertEquals("test-secret", req.getHeaders().getFirst(MemberCacheBroadcaster.TOKEN_HEADER));
+            Node node = nodes.get(req.getURI().getPort() - 10000);
+            node.broadcaster.receive(om.readValue(body, InvalidationMessage.class));
+
+            return new MockClientHttpResponse(new byte[0], HttpStatus.NO_CONTENT);
+        });
+
+        ClusterCacheProperties clusterProperties = new ClusterCacheProperties();
+        clusterProperties.setSecret("test-secret");
+        for (int i = 0; i < 3; i++) {
+            MemberCache cache = new MemberCache(new MemberCacheProperties(), new SimpleMeterRegistry());
+            EmailFilter emailFilter = new EmailFilter(new EmailFilterProperties(), null, new SimpleMeterRegistry());
+            MemberCacheBroadcaster broadcaster = new MemberCacheBroadcaster(clusterProperties, cache, emailFilter, discoveryClient,
+                    restTemplateBuilder, new DefaultListableBeanFactory().getBeanProvider(Registration.class), SERVICE_ID);
+            nodes.add(new Node(cache, broadcaster));
+        }
+    }
+
+    @Test
+    void invalidateTest() {
+        for (Node node : nodes) {
+            load(node, "user01@test.org");
+            load(node, "user02@test.org");
+            load(node, "user03@test.org");
+        }
+
+        // 변경이 몰리는 경우 - 같은 이메일은 1번만 전송
+        Node origin = nodes.get(0);
+        origin.broadcaster.onMemberUpdated(new MemberUpdatedEvent("user01@test.org"));
+        origin.broadcaster.onMemberUpdated(new MemberUpdatedEvent("user02@test.org"));
+        origin.broadcaster.onMemberUpdated(new MemberUpdatedEvent("user01@test.org"));
+        origin.broadcaster.flush();
+
+        assertEquals(3, requests.get()); // 등록된 인스턴스(자기 자신 포함)마다 1번
+
+        for (Node node : nodes) {
+            assertFalse(isCached(node, "user01@test.org"));
+            assertFalse(isCached(node, "user02@test.org"));
+            assertTrue(isCached(node, "user03@test.org"));
+        }
+
+        // 보낼 내용이 없으면 전송 X
+        origin.broadcaster.flush();
+        assertEquals(3, requests.get());
+    }
+
+    /**
+     * 서비스 레지스트리를 사용하는데 secret이 없으면 회원 캐시 사용 중지
+     */
+    @Test
+    void disableWithoutSecretTest() {
+        DiscoveryClient registry = new DiscoveryClient() {
+            @Override
+            public String description() {
+                return "registry";
+            }
+
+            @Override
+            public List<ServiceInstance> getInstances(String serviceId) {
+                return List.of();
+            }
+
+            @Override
+            public List<String> getServices() {
+                return List.of(SERVICE_ID);
+            }
+        };
+
+        MemberCache cache = new MemberCache(new MemberCacheProperties(), new SimpleMeterRegistry());
+        new MemberCacheBroadcaster(new ClusterCacheProperties(), cache, new EmailFilter(new EmailFilterProperties(), null, new SimpleMeterRegistry()),
+                registry, new RestTemplateBuilder(), new DefaultListableBeanFactory().getBeanProvider(Registration.class), SERVICE_ID);
+
+        assertFalse(cache.isEnabled());
+        assertTrue(nodes.get(0).cache.isEnabled()); // secret 설정
+    }
+
+    private void load(Node node, String email) {
+        node.cache.get(email, this::snapshot);
+    }
+
+    private boolean isCached(Node node, String email) {
+        return node.cache.get(email, e -> null) != null;
+    }
+
+    private MemberSnapshot snapshot(String email) {
+        return new MemberSnapshot(1L, email, null, "사용자", true, true, true, null,
+                null, null, null, null, List.of());
+    }
+
+    private record Node(MemberCache cache, MemberCacheBroadcaster broadcaster) {}
+}
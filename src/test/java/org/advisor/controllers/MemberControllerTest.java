@@ -1,8 +1,10 @@
 package org.advisor.controllers;
 
+import org.advisor.member.caches.MemberCache;
 import org.advisor.member.controllers.RequestJoin;
 import org.advisor.member.controllers.RequestLogin;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -14,12 +16,16 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.advisor.controllers.MemberControllerTest$MemberQueryCounter")
 @ActiveProfiles({"default", "test", "jwt"})
 @AutoConfigureMockMvc
 @Transactional
@@ -31,6 +37,9 @@ public class MemberControllerTest {
     @Autowired
     private ObjectMapper om;
 
+    @Autowired
+    private MemberCache memberCache;
+
     @Test
     void joinTest() throws Exception {
         // 회원 가입
@@ -67,4 +76,59 @@ public class MemberControllerTest {
                 .header("Authorization", "Bearer " + token))
                 .andDo(print()); */
     }
-}
\ No newline at end of file
+
+    /**
+     * 로그인 1건당 회원 조회 수
+     *  - 검증시 조회한 회원 정보로 토큰을 발급하므로 로그인 1건당 회원 조회는 1번
+     *  - 캐시 적중으로 조회 수가 줄어들지 않도록 로그인마다 캐시 비움
+     */
+    @Test
+    void loginQueryCountTest() throws Exception {
+        RequestJoin form = new RequestJoin();
+        form.setEmail("user02@test.org");
+        form.setName("사용자02");
+        form.setPassword("_aA123456");
+        form.setConfirmPassword(form.getPassword());
+        form.setRequiredTerms1(true);
+        form.setRequiredTerms2(true);
+        form.setRequiredTerms3(true);
+
+        mockMvc.perform(post("/join")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(form))).andExpect(status().isCreated());
+
+        RequestLogin loginForm = new RequestLogin();
+        loginForm.setEmail(form.getEmail());
+        loginForm.setPassword(form.getPassword());
+        String loginBody = om.writeValueAsString(loginForm);
+
+        MemberQueryCounter.COUNT.set(0L);
+
+        int count = 10;
+        for (int i = 0; i < count; i++) {
+            memberCache.clear();
+            mockMvc.perform(post("/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(loginBody)).andExpect(status().isOk());
+        }
+
+        assertEquals(count, MemberQueryCounter.COUNT.get());
+    }
+
+    /**
+     * 이메일로 회원을 조회하는 SQL 수 - 재발급 토큰 저장 등 다른 SQL은 제외
+     */
+    public static class MemberQueryCounter implements StatementInspector {
+        static final AtomicLong COUNT = new AtomicLong();
+
+        @Override
+        public String inspect(String sql) {
+            String value = sql.toLowerCase(Locale.ROOT);
+            if (value.startsWith("select") && value.contains(" from member ") && value.contains(".email=?")) {
+                COUNT.incrementAndGet();
+            }
+
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.advisor.jwt;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.advisor.member.jwt.JwtKeyRing;
+import org.advisor.member.jwt.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtKeyRingTest {
+
+    private static final String SECRET = "dGhpcy1pcy1hLXRlc3Qtb25seS1zZWNyZXQta2V5LWZvci1oczUxMi1zaWduYXR1cmVzLTAxMjM0NTY3ODk=";
+
+    private JwtProperties.SigningKey key1;
+    private JwtProperties.SigningKey key2;
+
+    @BeforeEach
+    void init() throws Exception {
+        key1 = signingKey("k1");
+        key2 = signingKey("k2");
+    }
+
+    /**
+     * 키 교체 - 새 키로 서명, 이전 키로 서명된 토큰은 계속 검증, 공개키는 모두 JWKS로 제공
+     */
+    @Test
+    void rotationTest() throws Exception {
+        JwtKeyRing before = ring("k1", key1);
+        JwtKeyRing after = ring("k2", key2, key1);
+
+        String oldToken = sign(before);
+        String newToken = sign(after);
+
+        assertEquals("user01@test.org", parse(after, oldToken));
+        assertEquals("user01@test.org", parse(after, newToken));
+        assertThrows(UnsupportedJwtException.class, () -> parse(before, newToken)); // 모르는 kid
+
+        JsonNode keys = new ObjectMapper().readTree(after.getJwks()).get("keys");
+        assertEquals(2, keys.size());
+        assertEquals("k2", keys.get(0).get("kid").asText());
+        assertEquals("EC", keys.get(0).get("kty").asText());
+        assertNotEquals(before.getJwksEtag(), after.getJwksEtag());
+    }
+
+    /**
+     * 기본값 HS512 - kid 없이 서명, 비밀키는 JWKS에 포함하지 않음
+     */
+    @Test
+    void symmetricTest() throws Exception {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        JwtKeyRing ring = new JwtKeyRing(properties);
+
+        assertTrue(ring.isSymmetric());
+        assertNull(ring.getActiveKid());
+        assertEquals("user01@test.org", parse(ring, Jwts.builder().subject("user01@test.org").signWith(ring.getSigningKey()).compact()));
+        assertEquals(0, new ObjectMapper().readTree(ring.getJwks()).get("keys").size());
+    }
+
+    /**
+     * 비대칭 서명 전환 후 HS512 토큰 - jwt.secret이 있어도 accept-hmac=true인 경우만 검증
+     */
+    @Test
+    void acceptHmacTest() throws Exception {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        String hmacToken = sign(new JwtKeyRing(properties));
+
+        JwtKeyRing ring = ring("k1", key1);
+        assertThrows(UnsupportedJwtException.class, () -> parse(ring, hmacToken)); // jwt.secret 미설정
+
+        properties.getSigning().setAlgorithm("ES256");
+        properties.getSigning().setKeys(List.of(key1));
+        assertThrows(UnsupportedJwtException.class, () -> parse(new JwtKeyRing(properties), hmacToken));
+
+        properties.getSigning().setAcceptHmac(true);
+        assertEquals("user01@test.org", parse(new JwtKeyRing(properties), hmacToken));
+    }
+
+    private JwtKeyRing ring(String activeKid, JwtProperties.SigningKey... keys) {
+        JwtProperties properties = new JwtProperties();
+        properties.getSigning().setAlgorithm("ES256");
+        properties.getSigning().setActiveKid(activeKid);
+        properties.getSigning().setKeys(List.of(keys));
+
+        return new JwtKeyRing(properties);
+    }
+
+    private String sign(JwtKeyRing ring) {
+        return Jwts.builder().header().keyId(ring.getActiveKid()).and()
+                .subject("user01@test.org")
+                .signWith(ring.getSigningKey())
+                .compact();
+    }
+
+    private String parse(JwtKeyRing ring, String token) {
+        return Jwts.parser().keyLocator(ring).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    private JwtProperties.SigningKey signingKey(String kid) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+
+        JwtProperties.SigningKey key = new JwtProperties.SigningKey();
+        key.setKid(kid);
+        key.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        key.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+
+        return key;
+    }
+}
@@ -0,0 +1,163 @@
+package org.advisor.jwt;
+
+import org.advisor.global.exceptions.UnAuthorizedException;
+import org.advisor.member.MemberInfo;
+import org.advisor.member.controllers.RequestJoin;
+import org.advisor.member.entities.Member;
+import org.advisor.member.entities.RefreshToken;
+import org.advisor.member.jwt.RefreshTokenService;
+import org.advisor.member.jwt.TokenPair;
+import org.advisor.member.jwt.TokenService;
+import org.advisor.member.repositories.MemberRepository;
+import org.advisor.member.repositories.RefreshTokenRepository;
+import org.advisor.member.services.MemberInfoService;
+import org.advisor.member.services.MemberUpdateService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 재발급 토큰 교체, 재사용 감지, 만료, 탈퇴 회원
+ *  - 재사용 감지시 family 폐기가 커밋되는지 확인하기 위해 테스트 트랜잭션 없이 실행
+ */
+@SpringBootTest(properties = {"password.hashing.bcrypt-strength=4", "member.cache.enabled=false"})
+@ActiveProfiles({"default", "test", "jwt"})
+public class RefreshTokenServiceTest {
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private MemberUpdateService updateService;
+
+    @Autowired
+    private MemberInfoService infoService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private String email;
+
+    @BeforeEach
+    void init() {
+        email = "refresh" + COUNTER.incrementAndGet() + "-" + System.currentTimeMillis() + "@test.org";
+
+        RequestJoin form = new RequestJoin();
+        form.setEmail(email);
+        form.setName("사용자");
+        form.setPassword("_aA123456");
+        form.setConfirmPassword(form.getPassword());
+        form.setRequiredTerms1(true);
+        form.setRequiredTerms2(true);
+        form.setRequiredTerms3(true);
+        updateService.process(form);
+    }
+
+    /**
+     * 교체 - 새 인증 토큰, 새 재발급 토큰 발급, 기존 토큰은 사용 처리
+     */
+    @Test
+    void rotationTest() {
+        String token = refreshTokenService.create(login());
+
+        TokenPair pair = refreshTokenService.refresh(token);
+
+        assertNotEquals(token, pair.refreshToken());
+        assertEquals(email, tokenService.verify(pair.token()).subject());
+
+        List<RefreshToken> items = tokens();
+        assertEquals(2, items.size());
+        assertEquals(1L, items.stream().filter(t -> t.getUsedAt() != null).count());
+        assertEquals(1L, items.stream().map(RefreshToken::getFamily).distinct().count());
+
+        assertNotNull(refreshTokenService.refresh(pair.refreshToken())); // 새 토큰으로 다시 교체 가능
+    }
+
+    /**
+     * 사용된 토큰 재유입 - 같은 family 모두 폐기, 예외가 발생해도 폐기는 커밋
+     */
+    @Test
+    void reuseTest() {
+        String token = refreshTokenService.create(login());
+        String other = refreshTokenService.create(login()); // 다른 family - 영향 없음
+        TokenPair pair = refreshTokenService.refresh(token);
+
+        UnAuthorizedException e = assertThrows(UnAuthorizedException.class, () -> refreshTokenService.refresh(token));
+        assertEquals("JWT.refresh.reused", e.getMessage());
+
+        assertEquals(1, tokens().size()); // 다른 family 토큰만 남음
+
+        e = assertThrows(UnAuthorizedException.class, () -> refreshTokenService.refresh(pair.refreshToken()));
+        assertEquals("JWT.refresh.invalid", e.getMessage());
+
+        assertNotNull(refreshTokenService.refresh(other));
+    }
+
+    /**
+     * 만료된 토큰 - 교체 X, 만료 토큰 삭제
+     */
+    @Test
+    void expiredTest() {
+        String token = refreshTokenService.create(login());
+
+        List<RefreshToken> items = tokens();
+        items.forEach(t -> t.setExpiresAt(LocalDateTime.now().minusSeconds(1L)));
+        refreshTokenRepository.saveAll(items);
+
+        UnAuthorizedException e = assertThrows(UnAuthorizedException.class, () -> refreshTokenService.refresh(token));
+        assertEquals("JWT.refresh.invalid", e.getMessage());
+        assertNull(tokens().get(0).getUsedAt());
+
+        refreshTokenService.purge();
+        assertTrue(tokens().isEmpty());
+    }
+
+    /**
+     * 탈퇴 회원 - 교체 X, family 폐기
+     */
+    @Test
+    void deletedMemberTest() {
+        String token = refreshTokenService.create(login());
+
+        Member member = memberRepository.findByEmail(email).orElseThrow();
+        member.setDeletedAt(LocalDateTime.now());
+        memberRepository.saveAndFlush(member);
+
+        UnAuthorizedException e = assertThrows(UnAuthorizedException.class, () -> refreshTokenService.refresh(token));
+        assertEquals("JWT.refresh.invalid", e.getMessage());
+        assertTrue(tokens().isEmpty());
+    }
+
+    /**
+     * 알 수 없는 토큰
+     */
+    @Test
+    void unknownTokenTest() {
+        UnAuthorizedException e = assertThrows(UnAuthorizedException.class, () -> refreshTokenService.refresh("unknown"));
+        assertEquals("JWT.refresh.invalid", e.getMessage());
+    }
+
+    private MemberInfo login() {
+        return (MemberInfo) infoService.loadUserByUsername(email);
+    }
+
+    private List<RefreshToken> tokens() {
+        return refreshTokenRepository.findAll().stream().filter(t -> email.equals(t.getEmail())).toList();
+    }
+}
@@ -0,0 +1,76 @@
+package org.advisor.jwt;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.advisor.member.MemberMetrics;
+import org.advisor.member.jwt.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenIntrospectionTest {
+
+    private static final String SECRET = "dGhpcy1pcy1hLXRlc3Qtb25seS1zZWNyZXQta2V5LWZvci1oczUxMi1zaWduYXR1cmVzLTAxMjM0NTY3ODk=";
+
+    /**
+     * 여러 스레드로 나눠 검증해도 요청 순서대로 결과 출력, 실패한 토큰은 에러 코드
+     */
+    @Test
+    void introspectTest() throws Exception {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.getIntrospect().setParallelism(4);
+        properties.getIntrospect().setSliceSize(8);
+
+        JwtKeyRing keyRing = new JwtKeyRing(properties);
+        TokenCache tokenCache = new TokenCache(properties, new SimpleMeterRegistry());
+        TokenService tokenService = new TokenService(properties, null, tokenCache, new MemberMetrics(new SimpleMeterRegistry()), keyRing);
+        ObjectMapper om = new ObjectMapper();
+        TokenIntrospectionService service = new TokenIntrospectionService(properties, tokenService, tokenCache, om);
+
+        Date expiration = new Date(System.currentTimeMillis() + 60_000L);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            if (i % 10 == 3) {
+                tokens.add(Jwts.builder().subject("user" + i + "@test.org").expiration(new Date(System.currentTimeMillis() - 60_000L))
+                        .signWith(keyRing.getSigningKey()).compact());
+            } else if (i % 10 == 7) {
+                tokens.add("not-a-token");
+            } else {
+                tokens.add(Jwts.builder().subject("user" + i + "@test.org").claim("authorities", "USER||ADMIN").expiration(expiration)
+                        .signWith(keyRing.getSigningKey()).compact());
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            service.process(tokens, out);
+        } finally {
+            service.shutdown();
+        }
+
+        JsonNode results = om.readTree(out.toByteArray());
+        assertEquals(100, results.size());
+        for (int i = 0; i < 100; i++) {
+            JsonNode result = results.get(i);
+            if (i % 10 == 3) {
+                assertFalse(result.get("active").asBoolean());
+                assertEquals("JWT.expired", result.get("error").asText());
+            } else if (i % 10 == 7) {
+                assertEquals("JWT.malformed", result.get("error").asText());
+            } else {
+                assertTrue(result.get("active").asBoolean());
+                assertEquals("user" + i + "@test.org", result.get("sub").asText());
+                assertEquals(2, result.get("authorities").size());
+                assertEquals(expiration.getTime() / 1000L, result.get("exp").asLong());
+            }
+        }
+    }
+}
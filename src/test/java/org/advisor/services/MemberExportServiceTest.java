@@ -0,0 +1,105 @@
+package org.advisor.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.advisor.member.constants.DataFormat;
+import org.advisor.member.controllers.RequestJoin;
+import org.advisor.member.entities.Member;
+import org.advisor.member.repositories.MemberRepository;
+import org.advisor.member.services.MemberExportService;
+import org.advisor.member.services.MemberUpdateService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 묶음(chunk-size=3)보다 많은 회원 내보내기 - 묶음 경계에서 중복, 누락 없이 회원 번호 순서대로 출력
+ */
+@SpringBootTest(properties = {"password.hashing.bcrypt-strength=4", "member.export.chunk-size=3"})
+@ActiveProfiles({"default", "test"})
+@Transactional
+public class MemberExportServiceTest {
+
+    @Autowired
+    private MemberExportService exportService;
+
+    @Autowired
+    private MemberUpdateService updateService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ObjectMapper om;
+
+    private List<Long> expected; // 전체 회원 번호(오름차순)
+
+    @BeforeEach
+    void init() {
+        String prefix = "export" + System.nanoTime() + "-";
+        for (int i = 1; i <= 7; i++) {
+            RequestJoin form = new RequestJoin();
+            form.setEmail(prefix + i + "@test.org");
+            form.setName("사용자" + i);
+            form.setPassword("_aA123456");
+            form.setConfirmPassword(form.getPassword());
+            form.setRequiredTerms1(true);
+            form.setRequiredTerms2(true);
+            form.setRequiredTerms3(true);
+            updateService.process(form);
+        }
+
+        em.flush();
+        em.clear();
+
+        expected = memberRepository.findAll().stream().map(Member::getSeq).sorted().toList();
+    }
+
+    @Test
+    void ndjsonTest() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.process(out, DataFormat.NDJSON);
+
+        List<Long> seqs = new ArrayList<>();
+        for (String line : lines(out)) {
+            JsonNode node = om.readTree(line);
+            seqs.add(node.get("seq").asLong());
+        }
+
+        assertEquals(expected.size(), count);
+        assertEquals(expected, seqs);
+    }
+
+    @Test
+    void csvTest() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.process(out, DataFormat.CSV);
+
+        List<String> lines = lines(out);
+        assertEquals(MemberExportService.CSV_HEADER, lines.get(0));
+
+        List<Long> seqs = lines.subList(1, lines.size()).stream().map(l -> Long.parseLong(l.substring(0, l.indexOf(',')))).toList();
+
+        assertEquals(expected.size(), count);
+        assertEquals(expected, seqs);
+    }
+
+    private List<String> lines(ByteArrayOutputStream out) {
+        return Arrays.stream(out.toString(StandardCharsets.UTF_8).split("\n")).filter(l -> !l.isEmpty()).toList();
+    }
+}
@@ -0,0 +1,44 @@
+package org.advisor.services;
+
+import org.advisor.member.constants.DataFormat;
+import org.advisor.member.services.MemberImportResult;
+import org.advisor.member.services.MemberImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {"password.hashing.bcrypt-strength=4", "member.cache.enabled=false"})
+@ActiveProfiles({"default", "test"})
+public class MemberImportServiceTest {
+
+    @Autowired
+    private MemberImportService importService;
+
+    /**
+     * 형식 오류 행(null, 잘못된 JSON)은 실패로 기록하고 나머지 행은 계속 처리
+     */
+    @Test
+    void malformedRowTest() throws Exception {
+        String body = """
+                {"email":"import-null01@test.org","name":"사용자01","password":"_aA123456","requiredTerms1":true,"requiredTerms2":true,"requiredTerms3":true}
+                null
+                {"email":
+                {"email":"import-null02@test.org","name":"사용자02","password":"_aA123456","requiredTerms1":true,"requiredTerms2":true,"requiredTerms3":true}
+                """;
+
+        MemberImportResult result = importService.process(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), DataFormat.NDJSON);
+
+        assertEquals(4, result.getTotal());
+        assertEquals(2, result.getSucceeded());
+        assertEquals(2, result.getFailed());
+        assertEquals(2L, result.getFailures().get(0).line());
+        assertEquals("Malformed", result.getFailures().get(0).errors().get(0));
+        assertEquals(3L, result.getFailures().get(1).line());
+    }
+}
@@ -0,0 +1,149 @@
+package org.advisor.services;
+
+import jakarta.persistence.EntityManager;
+import org.advisor.member.constants.Authority;
+import org.advisor.member.controllers.MemberSearch;
+import org.advisor.member.controllers.RequestJoin;
+import org.advisor.member.entities.Authorities;
+import org.advisor.member.entities.Member;
+import org.advisor.member.repositories.AuthoritiesRepository;
+import org.advisor.member.repositories.MemberRepository;
+import org.advisor.member.services.MemberListData;
+import org.advisor.member.services.MemberListItem;
+import org.advisor.member.services.MemberSearchService;
+import org.advisor.member.services.MemberUpdateService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"password.hashing.bcrypt-strength=4", "member.cache.enabled=false"})
+@ActiveProfiles({"default", "test"})
+@Transactional
+public class MemberSearchServiceTest {
+
+    @Autowired
+    private MemberSearchService searchService;
+
+    @Autowired
+    private MemberUpdateService updateService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private AuthoritiesRepository authoritiesRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private String prefix; // 다른 테스트에서 등록한 회원과 구분
+    private final List<Long> seqs = new ArrayList<>(); // 가입 순서
+
+    /**
+     * 회원 5명 가입, 2, 4번째 회원은 관리자 권한 추가
+     */
+    @BeforeEach
+    void init() {
+        prefix = "search" + System.nanoTime() + "-";
+        for (int i = 1; i <= 5; i++) {
+            RequestJoin form = new RequestJoin();
+            form.setEmail(prefix + i + "@test.org");
+            form.setName(i % 2 == 0 ? "관리자" + i : "사용자" + i);
+            form.setPassword("_aA123456");
+            form.setConfirmPassword(form.getPassword());
+            form.setRequiredTerms1(true);
+            form.setRequiredTerms2(true);
+            form.setRequiredTerms3(true);
+            updateService.process(form);
+
+            Member member = memberRepository.findByEmail(form.getEmail()).orElseThrow();
+            if (i % 2 == 0) {
+                authoritiesRepository.save(new Authorities(member, Authority.ADMIN));
+            }
+            seqs.add(member.getSeq());
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    /**
+     * 경계를 넘는 keyset 페이징 - 회원 번호 역순, 중복/누락 없음, 마지막 목록의 nextSeq는 null
+     * 목록 1번당 회원 조회 1번 + 권한 IN 조회 1번, 권한 컬렉션 지연 로딩 X
+     */
+    @Test
+    void pagingTest() {
+        Statistics stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+
+        MemberSearch search = new MemberSearch();
+        search.setEmail(prefix);
+        search.setLimit(2);
+
+        List<Long> result = new ArrayList<>();
+        List<Long> nextSeqs = new ArrayList<>();
+        MemberListData data;
+        do {
+            stats.clear();
+            data = searchService.getList(search);
+            assertEquals(2L, stats.getQueryExecutionCount());
+            assertEquals(0L, stats.getCollectionFetchCount());
+
+            for (MemberListItem item : data.items()) {
+                result.add(item.seq());
+
+                Set<Authority> authorities = Set.copyOf(item.authorities());
+                int no = seqs.indexOf(item.seq()) + 1;
+                assertEquals(no % 2 == 0 ? Set.of(Authority.USER, Authority.ADMIN) : Set.of(Authority.USER), authorities);
+            }
+
+            nextSeqs.add(data.nextSeq());
+            search.setLastSeq(data.nextSeq());
+        } while (data.nextSeq() != null);
+
+        assertEquals(List.of(seqs.get(4), seqs.get(3), seqs.get(2), seqs.get(1), seqs.get(0)), result);
+        assertEquals(List.of(seqs.get(3), seqs.get(1)), nextSeqs.subList(0, 2));
+        assertEquals(3, nextSeqs.size()); // 2건, 2건, 1건(마지막)
+    }
+
+    /**
+     * 권한, 회원명, 약관 조건과 조회 건수 보정
+     */
+    @Test
+    void filterTest() {
+        MemberSearch search = new MemberSearch();
+        search.setEmail(prefix);
+        search.setAuthority(Authority.ADMIN);
+        assertEquals(List.of(seqs.get(3), seqs.get(1)), seqs(searchService.getList(search)));
+
+        search = new MemberSearch();
+        search.setEmail(prefix);
+        search.setName("사용자");
+        assertEquals(List.of(seqs.get(4), seqs.get(2), seqs.get(0)), seqs(searchService.getList(search)));
+
+        search.setRequiredTerms1(false);
+        assertTrue(searchService.getList(search).items().isEmpty());
+
+        search = new MemberSearch();
+        search.setEmail(prefix);
+        search.setLimit(0); // 최소 1건
+        MemberListData data = searchService.getList(search);
+        assertEquals(1, data.items().size());
+        assertEquals(seqs.get(4), data.nextSeq());
+    }
+
+    private List<Long> seqs(MemberListData data) {
+        return data.items().stream().map(MemberListItem::seq).toList();
+    }
+}
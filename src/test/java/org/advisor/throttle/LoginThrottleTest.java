@@ -0,0 +1,86 @@
+package org.advisor.throttle;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.advisor.global.exceptions.TooManyRequestsException;
+import org.advisor.member.throttle.LoginThrottle;
+import org.advisor.member.throttle.LoginThrottleProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginThrottleTest {
+
+    /**
+     * 이메일별 실패 횟수를 모두 사용하면 잠금, 대소문자 구분 X, 로그인 성공시 초기화
+     */
+    @Test
+    void emailLockTest() {
+        LoginThrottle throttle = new LoginThrottle(new LoginThrottleProperties(), new SimpleMeterRegistry());
+
+        for (int i = 0; i < 5; i++) {
+            assertFalse(throttle.isLocked("user01@test.org"));
+            throttle.check("127.0.0.1", "user01@test.org");
+            throttle.failed("User01@Test.org ");
+        }
+
+        assertTrue(throttle.isLocked("user01@test.org"));
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class, () -> throttle.check("127.0.0.2", "user01@test.org"));
+        assertTrue(e.getRetryAfter() >= 1L);
+
+        assertFalse(throttle.isLocked("user02@test.org"));
+
+        throttle.succeeded("user01@test.org");
+        assertFalse(throttle.isLocked("user01@test.org"));
+    }
+
+    /**
+     * IP별 시도 횟수 초과
+     */
+    @Test
+    void ipLimitTest() {
+        LoginThrottleProperties properties = new LoginThrottleProperties();
+        properties.getIp().setCapacity(3);
+        LoginThrottle throttle = new LoginThrottle(properties, new SimpleMeterRegistry());
+
+        for (int i = 0; i < 3; i++) {
+            throttle.check("127.0.0.1", "user" + i + "@test.org");
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> throttle.check("127.0.0.1", "user9@test.org"));
+        assertDoesNotThrow(() -> throttle.check("127.0.0.2", "user9@test.org"));
+    }
+
+    /**
+     * 게이트웨이를 거친 요청은 X-Forwarded-For의 접속 IP별로 제한
+     */
+    @Test
+    void forwardedIpTest() {
+        LoginThrottleProperties properties = new LoginThrottleProperties();
+        properties.getIp().setCapacity(3);
+        LoginThrottle throttle = new LoginThrottle(properties, new SimpleMeterRegistry());
+
+        MockHttpServletRequest client1 = forwarded("10.0.0.5", "203.0.113.1");
+        MockHttpServletRequest client2 = forwarded("10.0.0.5", "198.51.100.7, 203.0.113.2, 10.0.0.9");
+        assertEquals("203.0.113.1", throttle.clientIp(client1));
+        assertEquals("203.0.113.2", throttle.clientIp(client2));
+
+        for (int i = 0; i < 3; i++) {
+            throttle.check(throttle.clientIp(client1), "user" + i + "@test.org");
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> throttle.check(throttle.clientIp(client1), "user9@test.org"));
+        assertDoesNotThrow(() -> throttle.check(throttle.clientIp(client2), "user9@test.org"));
+
+        // 신뢰하지 않는 주소에서 직접 보낸 헤더는 무시
+        assertEquals("203.0.113.50", throttle.clientIp(forwarded("203.0.113.50", "198.51.100.1")));
+    }
+
+    private MockHttpServletRequest forwarded(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+
+        return request;
+    }
+}
@@ -0,0 +1,62 @@
+package org.advisor.validators;
+
+import org.advisor.global.validators.PasswordPolicy;
+import org.advisor.global.validators.PasswordPolicyProperties;
+import org.advisor.global.validators.PasswordValidator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordPolicyTest {
+
+    @Test
+    void defaultPolicyTest() {
+        PasswordPolicy policy = new PasswordPolicy(new PasswordPolicyProperties());
+
+        assertTrue(policy.isSatisfied("_aA123456"));
+        assertFalse(policy.isSatisfied("_aA1234")); // 8자 미만
+        assertFalse(policy.isSatisfied("aA123456")); // 특수문자 X
+        assertFalse(policy.isSatisfied("_a123456")); // 대문자 X
+        assertFalse(policy.isSatisfied("_A123456")); // 소문자 X
+        assertFalse(policy.isSatisfied("_aAbcdef")); // 숫자 X
+        assertFalse(policy.isSatisfied("가aA123456")); // 한글은 특수문자 X
+        assertFalse(policy.isSatisfied(null));
+    }
+
+    /**
+     * 기본 정책은 기존 정규표현식 검사와 같은 결과
+     */
+    @Test
+    void sameAsRegexTest() {
+        PasswordPolicy policy = new PasswordPolicy(new PasswordPolicyProperties());
+        PasswordValidator validator = new PasswordValidator() {};
+
+        String[] passwords = {"_aA123456", "aA123456", "가나다라aA1!", "ㅏaA123456", "ABCdef123", "abc!@#123", "Aa1 Aa1 Aa1"};
+        for (String password : passwords) {
+            boolean expected = password.matches(".*[a-z]+.*") && password.matches(".*[A-Z]+.*")
+                    && password.matches(".*\\d.*") && password.matches(".*[^0-9a-zA-Zㄱ-ㅎ가-힣].*");
+
+            assertEquals(expected, policy.isSatisfied(password), password);
+            assertEquals(expected, validator.alphaCheck(password, false) && validator.numberCheck(password)
+                    && validator.specialCharsCheck(password), password);
+        }
+    }
+
+    @Test
+    void customPolicyTest() {
+        PasswordPolicyProperties properties = new PasswordPolicyProperties();
+        properties.setMinDigits(2);
+        properties.setMaxLength(12);
+        properties.setMaxRepeat(2);
+        properties.setHangul(PasswordPolicyProperties.Hangul.SPECIAL);
+        PasswordPolicy policy = new PasswordPolicy(properties);
+
+        assertTrue(policy.isSatisfied("가aA123456"));
+        assertFalse(policy.isSatisfied("_aA1bcdefg")); // 숫자 2개 미만
+        assertFalse(policy.isSatisfied("_aA1234567890")); // 12자 초과
+        assertFalse(policy.isSatisfied("_aA111456")); // 같은 문자 3번 연속
+
+        properties.setHangul(PasswordPolicyProperties.Hangul.DENY);
+        assertFalse(new PasswordPolicy(properties).isSatisfied("가_aA123456"));
+    }
+}